@@ -51,6 +51,12 @@ import com.arangodb.model.SkiplistIndexOptions;
 /**
  * Interface for operations on ArangoDB collection level.
  * 
+ * <p>
+ * Documents which are already serialized can be passed through without object mapping, both as values and as result
+ * type: {@link com.arangodb.velocypack.VPackSlice} and <code>byte[]</code> as VelocyPack, {@link String} and
+ * {@link java.nio.ByteBuffer} as UTF-8 encoded JSON.
+ * </p>
+ * 
  * @see <a href="https://docs.arangodb.com/current/HTTP/Collection/">Collection API Documentation</a>
  * @see <a href="https://docs.arangodb.com/current/HTTP/Collection/">Documents API Documentation</a>
  * @author Mark Vollmary
@@ -20,6 +20,9 @@
 
 package com.arangodb;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 /**
@@ -30,4 +33,35 @@ public interface ArangoCursorAsync<T> extends ArangoCursor<T> {
 
 	Stream<T> streamRemaining();
 
+	/**
+	 * Returns the elements of the cursor batch by batch. The next batch is fetched from the server without blocking
+	 * the calling thread.
+	 * 
+	 * <p>
+	 * The cursor must not be used by another thread or by {@link #next()} until the returned future is completed.
+	 * </p>
+	 * 
+	 * @return the not yet consumed elements of the current batch or, if there are none, of the next non-empty batch.
+	 *         An empty list if the cursor is exhausted.
+	 */
+	CompletableFuture<List<T>> nextBatch();
+
+	/**
+	 * Fetches the next batch without blocking if the current one is consumed.
+	 * 
+	 * @return whether or not there is another element
+	 */
+	CompletableFuture<Boolean> hasMoreAsync();
+
+	/**
+	 * Performs the given action for each remaining element. The action is called on the thread which completed the
+	 * fetch of the batch and must not block.
+	 * 
+	 * @param action
+	 *            the action to perform
+	 * @return a future which completes after the action was performed for the last element or completes
+	 *         exceptionally if a batch could not be fetched or the action threw
+	 */
+	CompletableFuture<Void> forEachRemainingAsync(Consumer<? super T> action);
+
 }
@@ -22,7 +22,9 @@ package com.arangodb;
 
 import java.io.InputStream;
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.ServiceLoader;
 import java.util.concurrent.CompletableFuture;
 
 import javax.net.ssl.SSLContext;
@@ -37,20 +39,37 @@ import com.arangodb.entity.UserEntity;
 import com.arangodb.internal.ArangoContext;
 import com.arangodb.internal.ArangoDBAsyncImpl;
 import com.arangodb.internal.ArangoDefaults;
+import com.arangodb.internal.ArangoExecutorAsync;
+import com.arangodb.internal.HedgingPolicy;
 import com.arangodb.internal.InternalArangoDBBuilder;
+import com.arangodb.internal.MethodHandleDocumentCache;
+import com.arangodb.internal.RetryPolicy;
+import com.arangodb.internal.net.CircuitBreakerHostHandler;
 import com.arangodb.internal.net.ConnectionFactory;
+import com.arangodb.internal.net.DirtyReadHostHandler;
+import com.arangodb.internal.net.Host;
+import com.arangodb.internal.net.HostCircuitBreaker;
 import com.arangodb.internal.net.HostHandler;
+import com.arangodb.internal.net.HostLatencyTracker;
 import com.arangodb.internal.net.HostResolver;
+import com.arangodb.internal.net.LatencyAwareHostHandler;
+import com.arangodb.internal.net.RefreshingHostResolver;
 import com.arangodb.internal.util.ArangoDeserializerImpl;
 import com.arangodb.internal.util.ArangoSerializationFactory;
 import com.arangodb.internal.util.ArangoSerializerImpl;
 import com.arangodb.internal.util.DefaultArangoSerialization;
+import com.arangodb.internal.util.RawDocumentSerialization;
 import com.arangodb.internal.velocystream.VstCommunicationAsync;
-import com.arangodb.internal.velocystream.VstCommunicationSync;
 import com.arangodb.internal.velocystream.VstConnectionFactoryAsync;
 import com.arangodb.model.LogOptions;
 import com.arangodb.model.UserCreateOptions;
 import com.arangodb.model.UserUpdateOptions;
+import com.arangodb.monitoring.ConnectionStats;
+import com.arangodb.monitoring.RequestListener;
+import com.arangodb.monitoring.SlowRequestDetector;
+import com.arangodb.monitoring.SlowRequestListener;
+import com.arangodb.processor.GeneratedVPackModule;
+import com.arangodb.tracing.Tracer;
 import com.arangodb.util.ArangoDeserializer;
 import com.arangodb.util.ArangoSerialization;
 import com.arangodb.util.ArangoSerializer;
@@ -92,8 +111,32 @@ public interface ArangoDBAsync extends ArangoSerializationAccessor {
 	 */
 	public static class Builder extends InternalArangoDBBuilder {
 
+		private Integer acquireHostListInterval;
+		private Boolean latencyAwareLoadBalancing;
+		private Boolean hedgedReads;
+		private Long hedgeDelay;
+		private Integer circuitBreakerFailureThreshold;
+		private Long circuitBreakerLatencyThreshold;
+		private Long circuitBreakerOpenDuration;
+		private Integer maxRetries;
+		private Long retryBackoff;
+		private Long retryMaxBackoff;
+		private Integer deserializationThreads;
+		private Integer deserializationThreshold;
+		private Boolean lazyDeserialization;
+		private Boolean updateDocumentFields;
+		private Long slowRequestThreshold;
+		private Integer slowRequestReportsPerSecond;
+		private SlowRequestListener slowRequestListener;
+		private Tracer tracer;
+		private final Collection<RequestListener> requestListeners;
+
 		public Builder() {
 			super();
+			requestListeners = new ArrayList<>();
+			for (final GeneratedVPackModule module : ServiceLoader.load(GeneratedVPackModule.class)) {
+				registerModule(module);
+			}
 		}
 
 		@Override
@@ -234,6 +277,20 @@ public interface ArangoDBAsync extends ArangoSerializationAccessor {
 			return this;
 		}
 
+		/**
+		 * Sets the interval in which the list of available hosts is refreshed in the background, when
+		 * {@link #acquireHostList(Boolean)} is enabled. Hosts which are no longer available are removed after their
+		 * pending requests completed.
+		 * 
+		 * @param acquireHostListInterval
+		 *            interval in milliseconds (default: 3600000)
+		 * @return {@link ArangoDBAsync.Builder}
+		 */
+		public Builder acquireHostListInterval(final Integer acquireHostListInterval) {
+			this.acquireHostListInterval = acquireHostListInterval;
+			return this;
+		}
+
 		/**
 		 * Sets the load balancing strategy to be used in an ArangoDB cluster setup.
 		 * 
@@ -246,6 +303,272 @@ public interface ArangoDBAsync extends ArangoSerializationAccessor {
 			return this;
 		}
 
+		/**
+		 * Whether or not the driver should balance the load between the hosts based on their observed response times.
+		 * 
+		 * <p>
+		 * For every request two random hosts are compared and the one with the lower moving average of response time
+		 * and fewer requests in flight is chosen. This avoids sending a steady share of the traffic to a degraded
+		 * coordinator. If set to <code>true</code> the configured {@link #loadBalancingStrategy(LoadBalancingStrategy)}
+		 * is ignored.
+		 * </p>
+		 * 
+		 * @param latencyAwareLoadBalancing
+		 *            whether or not use latency aware load balancing (default: false)
+		 * @return {@link ArangoDBAsync.Builder}
+		 */
+		public Builder latencyAwareLoadBalancing(final Boolean latencyAwareLoadBalancing) {
+			this.latencyAwareLoadBalancing = latencyAwareLoadBalancing;
+			return this;
+		}
+
+		/**
+		 * Whether or not idempotent reads should be hedged. If no response was received after
+		 * {@link #hedgeDelay(Long)}, a duplicate of the request is sent to another host and the first answer wins.
+		 * 
+		 * <p>
+		 * Hedging is applied to {@link ArangoCollectionAsync#getDocument(String, Class)},
+		 * {@link ArangoCollectionAsync#getDocuments(java.util.Collection, Class)},
+		 * {@link ArangoCollectionAsync#documentExists(String)} and to queries with
+		 * {@link com.arangodb.model.AqlQueryOptions#allowDirtyRead(Boolean)}. The duplicate is only routed to another
+		 * host when the load balancing strategy respects host stickiness ({@link LoadBalancingStrategy#ROUND_ROBIN},
+		 * {@link #latencyAwareLoadBalancing(Boolean)} or dirty reads).
+		 * </p>
+		 * 
+		 * @param hedgedReads
+		 *            whether or not hedge idempotent reads (default: false)
+		 * @return {@link ArangoDBAsync.Builder}
+		 */
+		public Builder hedgedReads(final Boolean hedgedReads) {
+			this.hedgedReads = hedgedReads;
+			return this;
+		}
+
+		/**
+		 * Sets the time after which a duplicate of a hedged read is sent to another host.
+		 * 
+		 * @param hedgeDelay
+		 *            delay in milliseconds (default: the 95th percentile of the observed read latencies)
+		 * @return {@link ArangoDBAsync.Builder}
+		 */
+		public Builder hedgeDelay(final Long hedgeDelay) {
+			this.hedgeDelay = hedgeDelay;
+			return this;
+		}
+
+		/**
+		 * Enables a circuit breaker per host. After the given number of consecutive transport failures (or responses
+		 * slower than {@link #circuitBreakerLatencyThreshold(Long)}) no further requests are sent to the host until
+		 * {@link #circuitBreakerOpenDuration(Long)} elapsed. Then a single probe request decides whether the host is
+		 * used again. Requests which can only be served by hosts with an open circuit fail immediately.
+		 * 
+		 * @param circuitBreakerFailureThreshold
+		 *            number of consecutive failures after which a host is skipped (default: circuit breaker disabled)
+		 * @return {@link ArangoDBAsync.Builder}
+		 */
+		public Builder circuitBreakerFailureThreshold(final Integer circuitBreakerFailureThreshold) {
+			this.circuitBreakerFailureThreshold = circuitBreakerFailureThreshold;
+			return this;
+		}
+
+		/**
+		 * Sets the response time above which a response counts as failure for the circuit breaker. Setting it
+		 * enables the circuit breaker.
+		 * 
+		 * @param circuitBreakerLatencyThreshold
+		 *            response time in milliseconds (default: response times are ignored)
+		 * @return {@link ArangoDBAsync.Builder}
+		 */
+		public Builder circuitBreakerLatencyThreshold(final Long circuitBreakerLatencyThreshold) {
+			this.circuitBreakerLatencyThreshold = circuitBreakerLatencyThreshold;
+			return this;
+		}
+
+		/**
+		 * Sets the time a host is skipped after its circuit opened.
+		 * 
+		 * @param circuitBreakerOpenDuration
+		 *            time in milliseconds (default: 10000)
+		 * @return {@link ArangoDBAsync.Builder}
+		 */
+		public Builder circuitBreakerOpenDuration(final Long circuitBreakerOpenDuration) {
+			this.circuitBreakerOpenDuration = circuitBreakerOpenDuration;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of retries of a request after a transport failure or a
+		 * <code>503 Service Unavailable</code> response. Only requests which can safely be sent twice are retried:
+		 * reads, deletes of documents, vertices and edges by key, replaces and updates with a revision precondition
+		 * and inserts of documents with a given <code>_key</code>. Retries stop as soon as most requests fail.
+		 * 
+		 * <p>
+		 * If a request was executed but its response got lost, the retry reports the outcome of the second
+		 * execution: a retried delete fails with <code>404 Not Found</code> and a retried insert with
+		 * <code>409 Conflict</code>, although the first execution succeeded.
+		 * </p>
+		 * 
+		 * @param maxRetries
+		 *            maximum number of retries per request (default: 0)
+		 * @return {@link ArangoDBAsync.Builder}
+		 */
+		public Builder maxRetries(final Integer maxRetries) {
+			this.maxRetries = maxRetries;
+			return this;
+		}
+
+		/**
+		 * Sets the delay before the first retry. The delay doubles with every retry and is randomized.
+		 * 
+		 * @param retryBackoff
+		 *            delay in milliseconds (default: 50)
+		 * @return {@link ArangoDBAsync.Builder}
+		 */
+		public Builder retryBackoff(final Long retryBackoff) {
+			this.retryBackoff = retryBackoff;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum delay between two retries.
+		 * 
+		 * @param retryMaxBackoff
+		 *            delay in milliseconds (default: 2000)
+		 * @return {@link ArangoDBAsync.Builder}
+		 */
+		public Builder retryMaxBackoff(final Long retryMaxBackoff) {
+			this.retryMaxBackoff = retryMaxBackoff;
+			return this;
+		}
+
+		/**
+		 * Sets the number of threads responses are deserialized on. By default responses are deserialized on the
+		 * thread of the connection they were received on, which delays all further responses of this connection.
+		 * 
+		 * @param deserializationThreads
+		 *            number of threads (default: responses are deserialized on the connection threads)
+		 * @return {@link ArangoDBAsync.Builder}
+		 */
+		public Builder deserializationThreads(final Integer deserializationThreads) {
+			this.deserializationThreads = deserializationThreads;
+			return this;
+		}
+
+		/**
+		 * Sets the minimum body size of a response to be deserialized on one of the
+		 * {@link #deserializationThreads(Integer)}. Smaller responses are deserialized right away on the connection
+		 * thread.
+		 * 
+		 * @param deserializationThreshold
+		 *            body size in bytes (default: 16384)
+		 * @return {@link ArangoDBAsync.Builder}
+		 */
+		public Builder deserializationThreshold(final Integer deserializationThreshold) {
+			this.deserializationThreshold = deserializationThreshold;
+			return this;
+		}
+
+		/**
+		 * Whether or not the documents and errors of a {@link com.arangodb.entity.MultiDocumentEntity} returned by
+		 * {@link ArangoCollectionAsync#getDocuments(Collection, Class)} and
+		 * {@link ArangoCollectionAsync#insertDocuments(Collection)} are deserialized only when they are accessed.
+		 * The returned collections are read-only and keep the response in memory as long as they are referenced.
+		 * 
+		 * <p>
+		 * Elements of an {@link ArangoCursorAsync} are always deserialized on access.
+		 * </p>
+		 * 
+		 * @param lazyDeserialization
+		 *            whether or not deserialize multi document results lazily (default: false)
+		 * @return {@link ArangoDBAsync.Builder}
+		 */
+		public Builder lazyDeserialization(final Boolean lazyDeserialization) {
+			this.lazyDeserialization = lazyDeserialization;
+			return this;
+		}
+
+		/**
+		 * Whether or not the fields annotated with {@link com.arangodb.entity.DocumentField} (<code>_id</code>,
+		 * <code>_key</code>, <code>_rev</code>) of a document passed to
+		 * {@link ArangoCollectionAsync#insertDocument(Object)}, {@link ArangoCollectionAsync#replaceDocument(String, Object)}
+		 * or {@link ArangoCollectionAsync#updateDocument(String, Object)} are updated with the values returned by the
+		 * server. A single request can skip the update with the option <code>silent</code>.
+		 * 
+		 * @param updateDocumentFields
+		 *            whether or not to update the document fields (default: true)
+		 * @return {@link ArangoDBAsync.Builder}
+		 */
+		public Builder updateDocumentFields(final Boolean updateDocumentFields) {
+			this.updateDocumentFields = updateDocumentFields;
+			return this;
+		}
+
+		/**
+		 * Adds a listener which gets notified about the stages of every request (start, sent, response received,
+		 * deserialized, completed), e.g. {@link com.arangodb.monitoring.LatencyHistogramListener}. Without any
+		 * listener no request context is created at all.
+		 * 
+		 * @param requestListener
+		 *            the listener to add
+		 * @return {@link ArangoDBAsync.Builder}
+		 */
+		public Builder requestListener(final RequestListener requestListener) {
+			requestListeners.add(requestListener);
+			return this;
+		}
+
+		/**
+		 * Sets the duration above which a request is reported to the {@link #slowRequestListener(SlowRequestListener)}.
+		 * 
+		 * @param slowRequestThreshold
+		 *            duration in milliseconds (default: slow requests are not reported)
+		 * @return {@link ArangoDBAsync.Builder}
+		 */
+		public Builder slowRequestThreshold(final Long slowRequestThreshold) {
+			this.slowRequestThreshold = slowRequestThreshold;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of slow requests reported per second. Slow requests beyond that are only counted.
+		 * 
+		 * @param slowRequestReportsPerSecond
+		 *            maximum number of reports per second (default: 10)
+		 * @return {@link ArangoDBAsync.Builder}
+		 */
+		public Builder slowRequestReportsPerSecond(final Integer slowRequestReportsPerSecond) {
+			this.slowRequestReportsPerSecond = slowRequestReportsPerSecond;
+			return this;
+		}
+
+		/**
+		 * Sets the listener which gets every request taking longer than {@link #slowRequestThreshold(Long)} together
+		 * with its path, AQL query string, bind parameter names, host, the split between the time spent in the driver
+		 * and on the server, and the response size.
+		 * 
+		 * @param slowRequestListener
+		 *            the listener to report slow requests to
+		 * @return {@link ArangoDBAsync.Builder}
+		 */
+		public Builder slowRequestListener(final SlowRequestListener slowRequestListener) {
+			this.slowRequestListener = slowRequestListener;
+			return this;
+		}
+
+		/**
+		 * Sets a tracer which creates a span for every request. The span can add headers to the request and is
+		 * active while the returned {@link CompletableFuture} is completed. Without a tracer no span is created at
+		 * all.
+		 * 
+		 * @param tracer
+		 *            the tracer
+		 * @return {@link ArangoDBAsync.Builder}
+		 */
+		public Builder tracer(final Tracer tracer) {
+			this.tracer = tracer;
+			return this;
+		}
+
 		/**
 		 * Register a custom {@link VPackSerializer} for a specific type to be used within the internal serialization
 		 * process.
@@ -570,28 +893,91 @@ public interface ArangoDBAsync extends ArangoSerializationAccessor {
 					: new ArangoDeserializerImpl(vpackerNull, vpackParser);
 			final DefaultArangoSerialization internal = new DefaultArangoSerialization(serializerTemp,
 					deserializerTemp);
-			final ArangoSerialization custom = customSerializer != null ? customSerializer : internal;
+			final ArangoSerialization custom = new RawDocumentSerialization(
+					customSerializer != null ? customSerializer : internal);
 			final ArangoSerializationFactory util = new ArangoSerializationFactory(internal, custom);
 
 			final int max = maxConnections != null ? Math.max(1, maxConnections)
 					: ArangoDefaults.MAX_CONNECTIONS_VST_DEFAULT;
-			final ConnectionFactory connectionFactory = new VstConnectionFactoryAsync(host, timeout, connectionTtl,
-					useSsl, sslContext);
+			final VstConnectionFactoryAsync connectionFactory = new VstConnectionFactoryAsync(host, timeout,
+					connectionTtl, useSsl, sslContext);
 			final HostResolver hostResolver = createHostResolver(createHostList(max, connectionFactory), max,
 				connectionFactory);
-			final HostHandler hostHandler = createHostHandler(hostResolver);
-			return new ArangoDBAsyncImpl(asyncBuilder(hostHandler), util, syncBuilder(hostHandler), hostResolver,
-					new ArangoContext());
+			final HostLatencyTracker latencyTracker = Boolean.TRUE == latencyAwareLoadBalancing
+					? new HostLatencyTracker() : null;
+			final HostCircuitBreaker circuitBreaker = circuitBreakerFailureThreshold != null
+					|| circuitBreakerLatencyThreshold != null ? createCircuitBreaker() : null;
+			HostHandler hostHandler = latencyTracker != null
+					? createLatencyAwareHostHandler(hostResolver, latencyTracker) : createHostHandler(hostResolver);
+			if (circuitBreaker != null) {
+				hostHandler = new CircuitBreakerHostHandler(hostHandler, circuitBreaker);
+			}
+			final VstCommunicationAsync.Builder asyncBuilder = asyncBuilder(hostHandler);
+			if (latencyTracker != null) {
+				asyncBuilder.hostRequestListener(latencyTracker);
+			}
+			if (circuitBreaker != null) {
+				asyncBuilder.hostRequestListener(circuitBreaker);
+			}
+			if (hostResolver instanceof RefreshingHostResolver) {
+				final RefreshingHostResolver refreshingHostResolver = RefreshingHostResolver.class.cast(hostResolver);
+				asyncBuilder.hostRequestListener(refreshingHostResolver);
+				if (latencyTracker != null) {
+					refreshingHostResolver.addRemovalListener(latencyTracker::remove);
+				}
+				if (circuitBreaker != null) {
+					refreshingHostResolver.addRemovalListener(circuitBreaker::remove);
+				}
+			}
+			final HedgingPolicy hedgingPolicy = Boolean.TRUE == hedgedReads ? new HedgingPolicy(hostResolver, hedgeDelay)
+					: null;
+			final RetryPolicy retryPolicy = maxRetries != null && maxRetries > 0
+					? new RetryPolicy(maxRetries, retryBackoff, retryMaxBackoff) : null;
+			final Collection<RequestListener> listeners = new ArrayList<>(requestListeners);
+			if (slowRequestThreshold != null && slowRequestListener != null) {
+				listeners.add(new SlowRequestDetector(slowRequestThreshold,
+						slowRequestReportsPerSecond != null ? slowRequestReportsPerSecond
+								: SlowRequestDetector.DEFAULT_REPORTS_PER_SECOND,
+						slowRequestListener));
+			}
+			return new ArangoDBAsyncImpl(asyncBuilder, util, hostResolver, connectionFactory,
+					new ArangoContext(), new MethodHandleDocumentCache(Boolean.FALSE != updateDocumentFields),
+					hedgingPolicy, retryPolicy, deserializationThreads,
+					deserializationThreshold != null ? deserializationThreshold
+							: ArangoExecutorAsync.DEFAULT_DESERIALIZATION_THRESHOLD,
+					Boolean.TRUE == lazyDeserialization,
+					listeners.toArray(new RequestListener[listeners.size()]), tracer);
 		}
 
-		private VstCommunicationAsync.Builder asyncBuilder(final HostHandler hostHandler) {
-			return new VstCommunicationAsync.Builder(hostHandler).timeout(timeout).user(user).password(password)
-					.useSsl(useSsl).sslContext(sslContext).chunksize(chunksize).maxConnections(maxConnections)
-					.connectionTtl(connectionTtl);
+		@Override
+		protected HostResolver createHostResolver(
+			final Collection<Host> hosts,
+			final int maxConnections,
+			final ConnectionFactory connectionFactory) {
+			return Boolean.TRUE == acquireHostList
+					? new RefreshingHostResolver(new ArrayList<Host>(hosts), maxConnections, connectionFactory,
+							acquireHostListInterval != null ? acquireHostListInterval
+									: RefreshingHostResolver.DEFAULT_REFRESH_INTERVAL)
+					: super.createHostResolver(hosts, maxConnections, connectionFactory);
 		}
 
-		private VstCommunicationSync.Builder syncBuilder(final HostHandler hostHandler) {
-			return new VstCommunicationSync.Builder(hostHandler).timeout(timeout).user(user).password(password)
+		private HostCircuitBreaker createCircuitBreaker() {
+			return new HostCircuitBreaker(
+					circuitBreakerFailureThreshold != null ? circuitBreakerFailureThreshold
+							: HostCircuitBreaker.DEFAULT_FAILURE_THRESHOLD,
+					circuitBreakerLatencyThreshold, circuitBreakerOpenDuration != null ? circuitBreakerOpenDuration
+							: HostCircuitBreaker.DEFAULT_OPEN_DURATION);
+		}
+
+		private HostHandler createLatencyAwareHostHandler(
+			final HostResolver hostResolver,
+			final HostLatencyTracker latencyTracker) {
+			return new DirtyReadHostHandler(new LatencyAwareHostHandler(hostResolver, latencyTracker),
+					new LatencyAwareHostHandler(hostResolver, latencyTracker));
+		}
+
+		private VstCommunicationAsync.Builder asyncBuilder(final HostHandler hostHandler) {
+			return new VstCommunicationAsync.Builder(hostHandler).timeout(timeout).user(user).password(password)
 					.useSsl(useSsl).sslContext(sslContext).chunksize(chunksize).maxConnections(maxConnections)
 					.connectionTtl(connectionTtl);
 		}
@@ -600,6 +986,14 @@ public interface ArangoDBAsync extends ArangoSerializationAccessor {
 
 	void shutdown() throws ArangoDBException;
 
+	/**
+	 * Returns the statistics of all currently open connections. Every call takes a new snapshot, which is cheap
+	 * enough to be polled periodically.
+	 * 
+	 * @return statistics per connection, {@link ConnectionStats#getHost()} tells the host of a connection
+	 */
+	Collection<ConnectionStats> getConnectionStats();
+
 	/**
 	 * Returns a handler of the system database
 	 * 
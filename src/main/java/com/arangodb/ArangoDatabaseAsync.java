@@ -24,6 +24,8 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
+import org.reactivestreams.Publisher;
+
 import com.arangodb.entity.AqlExecutionExplainEntity;
 import com.arangodb.entity.AqlFunctionEntity;
 import com.arangodb.entity.AqlParseEntity;
@@ -294,6 +296,32 @@ public interface ArangoDatabaseAsync extends ArangoSerializationAccessor {
 		final AqlQueryOptions options,
 		final Class<T> type) throws ArangoDBException;
 
+	/**
+	 * Returns a {@link Publisher} of the results of the given {@code query}. The query is executed for every
+	 * subscriber when it requests the first elements. Further batches of the cursor are only fetched when the
+	 * subscriber requested more elements than the current batch contains. Cancelling the subscription deletes the
+	 * cursor on the server. Reactive Streams don't allow <code>null</code> elements, a query which returns
+	 * <code>null</code>, e.g. <code>RETURN doc.missing</code>, deletes the cursor and signals a
+	 * {@link NullPointerException} to the subscriber.
+	 * 
+	 * @see <a href="https://docs.arangodb.com/current/HTTP/AqlQueryCursor/AccessingCursors.html#create-cursor">API
+	 *      Documentation</a>
+	 * @param query
+	 *            contains the query string to be executed
+	 * @param bindVars
+	 *            key/value pairs representing the bind parameters
+	 * @param options
+	 *            Additional options, can be null
+	 * @param type
+	 *            The type of the result (POJO class, VPackSlice, String for Json, or Collection/List/Map)
+	 * @return publisher of the results
+	 */
+	<T> Publisher<T> queryPublisher(
+		final String query,
+		final Map<String, Object> bindVars,
+		final AqlQueryOptions options,
+		final Class<T> type);
+
 	/**
 	 * Performs a database query using the given {@code query}, then returns a new {@code ArangoCursor} instance for the
 	 * result list.
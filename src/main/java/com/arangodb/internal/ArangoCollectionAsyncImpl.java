@@ -33,10 +33,12 @@ import com.arangodb.entity.DocumentCreateEntity;
 import com.arangodb.entity.DocumentDeleteEntity;
 import com.arangodb.entity.DocumentImportEntity;
 import com.arangodb.entity.DocumentUpdateEntity;
+import com.arangodb.entity.ErrorEntity;
 import com.arangodb.entity.IndexEntity;
 import com.arangodb.entity.MultiDocumentEntity;
 import com.arangodb.entity.Permissions;
 import com.arangodb.internal.ArangoExecutor.ResponseDeserializer;
+import com.arangodb.internal.util.ArangoSerializationFactory.Serializer;
 import com.arangodb.internal.util.DocumentUtil;
 import com.arangodb.model.CollectionCreateOptions;
 import com.arangodb.model.CollectionPropertiesOptions;
@@ -52,7 +54,10 @@ import com.arangodb.model.GeoIndexOptions;
 import com.arangodb.model.HashIndexOptions;
 import com.arangodb.model.PersistentIndexOptions;
 import com.arangodb.model.SkiplistIndexOptions;
+import com.arangodb.velocypack.VPackSlice;
 import com.arangodb.velocypack.exception.VPackException;
+import com.arangodb.velocystream.Request;
+import com.arangodb.velocystream.RequestType;
 import com.arangodb.velocystream.Response;
 
 /**
@@ -63,10 +68,114 @@ public class ArangoCollectionAsyncImpl
 		extends InternalArangoCollection<ArangoDBAsyncImpl, ArangoDatabaseAsyncImpl, ArangoExecutorAsync>
 		implements ArangoCollectionAsync {
 
+	private static final String NEW = "new";
+	private static final String OLD = "old";
+	private static final String PATH_API_DOCUMENT = "/_api/document";
+
+	private volatile DocumentPath documentPath;
+
 	protected ArangoCollectionAsyncImpl(final ArangoDatabaseAsyncImpl db, final String name) {
 		super(db, name);
 	}
 
+	/**
+	 * Builds the path of document requests from the encoded path of the collection, which is created only once, and
+	 * the document key, if the key doesn't need any encoding. Everything else, including keys which have to be
+	 * percent-encoded, is built by {@link InternalArangoCollection}.
+	 */
+	@Override
+	protected Request request(final String database, final RequestType requestType, final String... path) {
+		final String fullPath = path.length == 2 && PATH_API_DOCUMENT.equals(path[0]) ? documentPath(path[1]) : null;
+		if (fullPath == null) {
+			return super.request(database, requestType, path);
+		}
+		// the path of a request can't be changed once created, so only the headers of the context are set here
+		final Request request = new Request(database, requestType, fullPath);
+		request.getHeaderParam().putAll(context.getHeaderParam());
+		return request;
+	}
+
+	/**
+	 * @return the encoded path of the given collection or document handle or <code>null</code> if it has to be
+	 *         encoded from scratch
+	 */
+	private String documentPath(final String resource) {
+		final String collection = name;
+		DocumentPath prefix = documentPath;
+		if (prefix == null || prefix.collection != collection) {
+			prefix = new DocumentPath(collection, createPath(PATH_API_DOCUMENT, collection));
+			documentPath = prefix;
+		}
+		if (resource.equals(collection)) {
+			return prefix.path;
+		}
+		if (resource.length() > collection.length() && resource.startsWith(collection)
+				&& resource.charAt(collection.length()) == '/') {
+			final String key = resource.substring(collection.length() + 1);
+			return isUnreserved(key) ? prefix.path + "/" + key : null;
+		}
+		return null;
+	}
+
+	private static boolean isUnreserved(final String key) {
+		for (int i = 0; i < key.length(); i++) {
+			final char c = key.charAt(i);
+			if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '-' || c == '_'
+					|| c == '.' || c == '~')) {
+				return false;
+			}
+		}
+		return !key.isEmpty();
+	}
+
+	private static class DocumentPath {
+
+		private final String collection;
+		private final String path;
+
+		private DocumentPath(final String collection, final String path) {
+			super();
+			this.collection = collection;
+			this.path = path;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	protected <T> ResponseDeserializer<MultiDocumentEntity<DocumentCreateEntity<T>>> insertDocumentsResponseDeserializer(
+		final Collection<T> values,
+		final DocumentCreateOptions params) {
+		if (!executor.isLazyDeserialization()) {
+			return super.insertDocumentsResponseDeserializer(values, params);
+		}
+		final Class<T> type = Boolean.TRUE == params.getReturnNew() && !values.isEmpty()
+				? (Class<T>) values.iterator().next().getClass() : null;
+		return response -> LazyList.multiDocument(response.getBody(), slice -> {
+			final DocumentCreateEntity<T> doc = util().deserialize(slice, DocumentCreateEntity.class);
+			final VPackSlice newDoc = slice.get(NEW);
+			if (newDoc.isObject()) {
+				doc.setNew((T) util(Serializer.CUSTOM).deserialize(newDoc, type));
+			}
+			final VPackSlice oldDoc = slice.get(OLD);
+			if (oldDoc.isObject()) {
+				doc.setOld((T) util(Serializer.CUSTOM).deserialize(oldDoc, type));
+			}
+			return doc;
+		}, slice -> util().deserialize(slice, ErrorEntity.class));
+	}
+
+	@Override
+	protected <T> ResponseDeserializer<MultiDocumentEntity<T>> getDocumentsResponseDeserializer(
+		final Class<T> type,
+		final DocumentReadOptions options) {
+		if (!executor.isLazyDeserialization()) {
+			return super.getDocumentsResponseDeserializer(type, options);
+		}
+		return response -> LazyList.multiDocument(response.getBody(),
+			slice -> util(Serializer.CUSTOM).<T> deserialize(slice, type),
+			slice -> util().deserialize(slice, ErrorEntity.class));
+	}
+
 	@Override
 	public <T> CompletableFuture<DocumentCreateEntity<T>> insertDocument(final T value) {
 		final DocumentCreateOptions options = new DocumentCreateOptions();
@@ -128,7 +237,8 @@ public class ArangoCollectionAsyncImpl
 	public <T> CompletableFuture<T> getDocument(final String key, final Class<T> type) throws ArangoDBException {
 		DocumentUtil.validateDocumentKey(key);
 		final CompletableFuture<T> result = new CompletableFuture<>();
-		final CompletableFuture<T> execute = executor.execute(getDocumentRequest(key, new DocumentReadOptions()), type);
+		final CompletableFuture<T> execute = executor.executeHedged(getDocumentRequest(key, new DocumentReadOptions()),
+			type);
 		execute.whenComplete((response, ex) -> result.complete(response));
 		return result;
 	}
@@ -140,7 +250,7 @@ public class ArangoCollectionAsyncImpl
 		final DocumentReadOptions options) throws ArangoDBException {
 		DocumentUtil.validateDocumentKey(key);
 		final CompletableFuture<T> result = new CompletableFuture<>();
-		final CompletableFuture<T> execute = executor.execute(getDocumentRequest(key, options), type);
+		final CompletableFuture<T> execute = executor.executeHedged(getDocumentRequest(key, options), type);
 		execute.whenComplete((response, ex) -> result.complete(response));
 		return result;
 	}
@@ -157,7 +267,8 @@ public class ArangoCollectionAsyncImpl
 		final Collection<String> keys,
 		final Class<T> type,
 		final DocumentReadOptions options) {
-		return executor.execute(getDocumentsRequest(keys, options), getDocumentsResponseDeserializer(type, options));
+		return executor.executeHedged(getDocumentsRequest(keys, options),
+			getDocumentsResponseDeserializer(type, options));
 	}
 
 	@Override
@@ -258,19 +369,20 @@ public class ArangoCollectionAsyncImpl
 	@Override
 	public CompletableFuture<Boolean> documentExists(final String key) {
 		final CompletableFuture<Boolean> result = new CompletableFuture<>();
-		executor.execute(documentExistsRequest(key, new DocumentExistsOptions()), new ResponseDeserializer<Response>() {
-			@Override
-			public Response deserialize(final Response response) throws VPackException {
-				return response;
-			}
-		}).whenComplete(documentExistsResponseConsumer(result));
+		executor.executeHedged(documentExistsRequest(key, new DocumentExistsOptions()),
+			new ResponseDeserializer<Response>() {
+				@Override
+				public Response deserialize(final Response response) throws VPackException {
+					return response;
+				}
+			}).whenComplete(documentExistsResponseConsumer(result));
 		return result;
 	}
 
 	@Override
 	public CompletableFuture<Boolean> documentExists(final String key, final DocumentExistsOptions options) {
 		final CompletableFuture<Boolean> result = new CompletableFuture<>();
-		executor.execute(documentExistsRequest(key, options), new ResponseDeserializer<Response>() {
+		executor.executeHedged(documentExistsRequest(key, options), new ResponseDeserializer<Response>() {
 			@Override
 			public Response deserialize(final Response response) throws VPackException {
 				return response;
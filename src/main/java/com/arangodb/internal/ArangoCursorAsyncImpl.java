@@ -20,13 +20,19 @@
 
 package com.arangodb.internal;
 
-import java.util.Spliterators;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import com.arangodb.ArangoCursor;
 import com.arangodb.ArangoCursorAsync;
 import com.arangodb.entity.CursorEntity;
 import com.arangodb.internal.cursor.ArangoCursorImpl;
+import com.arangodb.internal.cursor.ArangoCursorIterator;
+import com.arangodb.velocypack.VPackSlice;
 
 /**
  * @author Mark Vollmary
@@ -34,13 +40,85 @@ import com.arangodb.internal.cursor.ArangoCursorImpl;
  */
 public class ArangoCursorAsyncImpl<T> extends ArangoCursorImpl<T> implements ArangoCursorAsync<T> {
 
-	protected ArangoCursorAsyncImpl(final InternalArangoDatabase<?, ?> db, final ArangoCursorExecute execute,
-		final Class<T> type, final CursorEntity result) {
+	private final ArangoCursorExecuteAsync execute;
+
+	/**
+	 * @param prefetch
+	 *            maximum number of batches requested ahead of the current one or <code>null</code> to request a
+	 *            batch only when it is needed
+	 * @param deserializer
+	 *            executor to deserialize the batches on in parallel or <code>null</code> to deserialize an element
+	 *            when it is consumed
+	 */
+	protected ArangoCursorAsyncImpl(final InternalArangoDatabase<?, ?> db, final ArangoCursorExecuteAsync execute,
+		final Class<T> type, final CursorEntity result, final Integer prefetch, final Executor deserializer) {
 		super(db, execute, type, result);
+		this.execute = execute;
+		if (deserializer != null) {
+			asyncIterator().deserializeParallel(deserializer);
+		}
+		if (prefetch != null && prefetch > 0) {
+			asyncIterator().prefetch(prefetch);
+		}
+	}
+
+	@Override
+	protected ArangoCursorIterator<T> createIterator(
+		final ArangoCursor<T> cursor,
+		final InternalArangoDatabase<?, ?> db,
+		final ArangoCursorExecute execute,
+		final CursorEntity result) {
+		return new ArangoCursorAsyncIterator<>(cursor, (ArangoCursorExecuteAsync) execute, db, result);
+	}
+
+	private ArangoCursorAsyncIterator<T> asyncIterator() {
+		return (ArangoCursorAsyncIterator<T>) iterator;
+	}
+
+	@Override
+	public void close() {
+		// a prefetched batch may already have been the last one, then the server has deleted the cursor
+		if (getId() != null && asyncIterator().stop()) {
+			execute.close(getId());
+		}
+	}
+
+	/**
+	 * Like {@link #close()} but without blocking.
+	 */
+	public CompletableFuture<Void> closeAsync() {
+		if (getId() == null) {
+			return CompletableFuture.completedFuture(null);
+		}
+		return asyncIterator().stopAsync()
+				.thenCompose(open -> open ? execute.closeAsync(getId()) : CompletableFuture.<Void> completedFuture(null));
+	}
+
+	@Override
+	public CompletableFuture<List<T>> nextBatch() {
+		return asyncIterator().nextBatch();
+	}
+
+	@Override
+	public CompletableFuture<Boolean> hasMoreAsync() {
+		return asyncIterator().hasMoreAsync();
+	}
+
+	@Override
+	public CompletableFuture<Void> forEachRemainingAsync(final Consumer<? super T> action) {
+		return nextBatch().thenCompose(batch -> {
+			if (batch.isEmpty()) {
+				return CompletableFuture.<Void> completedFuture(null);
+			}
+			batch.forEach(action);
+			return forEachRemainingAsync(action);
+		});
 	}
 
 	@Override
 	public Stream<T> streamRemaining() {
-		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, 0), false);
+		// the count is only known when requested with the query, a slice is the only element type never null
+		return StreamSupport.stream(
+			new CursorSpliterator<>(asyncIterator(), getCount(), VPackSlice.class.equals(getType())), false);
 	}
 }
@@ -0,0 +1,365 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+
+import com.arangodb.ArangoCursor;
+import com.arangodb.ArangoDBException;
+import com.arangodb.entity.CursorEntity;
+import com.arangodb.internal.cursor.ArangoCursorIterator;
+import com.arangodb.velocypack.VPackSlice;
+
+/**
+ * Iterator of an {@link ArangoCursorAsyncImpl} which can also consume the cursor batch by batch without blocking.
+ *
+ * <p>
+ * With prefetching, the next batches are requested while the current one is consumed. The server does not allow
+ * concurrent requests on a cursor, so the batches are requested one after another until the given number of batches
+ * is buffered.
+ * </p>
+ *
+ * <p>
+ * With parallel deserialization, every batch is split into ranges which are deserialized on an executor as soon as
+ * the batch arrived. Otherwise an element is deserialized when it is consumed.
+ * </p>
+ */
+public class ArangoCursorAsyncIterator<T> extends ArangoCursorIterator<T> {
+
+	private static final int DESERIALIZATION_RANGE = 256;
+
+	private final ArangoCursor<T> cursor;
+	private final ArangoCursorExecuteAsync execute;
+	private final String id;
+	private final Deque<CompletableFuture<Batch<T>>> prefetched;
+	private CursorEntity result;
+	private CompletableFuture<List<T>> elements;
+	private int pos;
+	private long consumed;
+	private int prefetch;
+	private Executor deserializer;
+	private CompletableFuture<CursorEntity> fetching;
+	private boolean more;
+	private boolean stopped;
+
+	protected ArangoCursorAsyncIterator(final ArangoCursor<T> cursor, final ArangoCursorExecuteAsync execute,
+		final InternalArangoDatabase<?, ?> db, final CursorEntity result) {
+		super(cursor, execute, db, result);
+		this.cursor = cursor;
+		this.execute = execute;
+		this.result = result;
+		id = result.getId();
+		prefetched = new ArrayDeque<>();
+		pos = 0;
+		prefetch = 0;
+		more = Boolean.TRUE == result.getHasMore();
+	}
+
+	/**
+	 * Deserializes this and every following batch in ranges on the given executor. Has to be called before
+	 * {@link #prefetch(int)}.
+	 *
+	 * @param deserializer
+	 *            the executor to deserialize on
+	 */
+	public synchronized void deserializeParallel(final Executor deserializer) {
+		this.deserializer = deserializer;
+		elements = deserializeRanges(result.getResult(), deserializer);
+	}
+
+	/**
+	 * Starts to request the next batches in the background.
+	 *
+	 * @param prefetch
+	 *            maximum number of batches requested ahead of the current one
+	 */
+	public synchronized void prefetch(final int prefetch) {
+		this.prefetch = prefetch;
+		fill();
+	}
+
+	@Override
+	public CursorEntity getResult() {
+		return result;
+	}
+
+	@Override
+	public boolean hasNext() {
+		return pos < result.getResult().size() || Boolean.TRUE == result.getHasMore();
+	}
+
+	@Override
+	public T next() {
+		if (pos >= result.getResult().size() && Boolean.TRUE == result.getHasMore()) {
+			batch(await(fetch()));
+		}
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		consumed++;
+		return get(pos++);
+	}
+
+	/**
+	 * @param element
+	 *            an element of a batch of the cursor
+	 * @return the deserialized element
+	 */
+	public T element(final VPackSlice element) {
+		return deserialize(element, cursor.getType());
+	}
+
+	/**
+	 * @return the number of elements consumed so far
+	 */
+	public long getConsumed() {
+		return consumed;
+	}
+
+	/**
+	 * Consumes the not yet consumed elements of the current batch or, if there are none, fetches and consumes the
+	 * next non-empty batch. Unless deserialized in parallel, the elements are deserialized by the returned
+	 * spliterator.
+	 *
+	 * @param characteristics
+	 *            characteristics of the returned spliterator in addition to <code>SIZED</code> and
+	 *            <code>SUBSIZED</code>
+	 * @return a spliterator over the elements or <code>null</code> if the cursor is exhausted
+	 */
+	public Spliterator<T> splitBatch(final int characteristics) {
+		while (pos >= result.getResult().size() && Boolean.TRUE == result.getHasMore()) {
+			batch(await(fetch()));
+		}
+		final int size = result.getResult().size();
+		if (pos >= size) {
+			return null;
+		}
+		final Spliterator<T> split;
+		if (elements != null) {
+			final List<T> batch = await(elements);
+			split = new CursorBatchSpliterator<>(batch::get, pos, size, characteristics);
+		} else {
+			final VPackSlice batch = result.getResult();
+			split = new CursorBatchSpliterator<>(index -> element(batch.get(index)), pos, size, characteristics);
+		}
+		consumed += size - pos;
+		pos = size;
+		return split;
+	}
+
+	/**
+	 * @return the not yet consumed elements of the current batch or, if there are none, of the next non-empty batch.
+	 *         An empty list if the cursor is exhausted.
+	 */
+	public CompletableFuture<List<T>> nextBatch() {
+		final int size = result.getResult().size();
+		if (pos < size) {
+			if (elements != null) {
+				return elements.thenApply(batch -> {
+					final List<T> remaining = new ArrayList<>(batch.subList(pos, size));
+					consumed += size - pos;
+					pos = size;
+					return remaining;
+				});
+			}
+			final List<T> batch = new ArrayList<>(size - pos);
+			consumed += size - pos;
+			for (; pos < size; pos++) {
+				batch.add(get(pos));
+			}
+			return CompletableFuture.completedFuture(batch);
+		}
+		if (Boolean.TRUE != result.getHasMore()) {
+			return CompletableFuture.completedFuture(Collections.<T> emptyList());
+		}
+		return fetch().thenCompose(next -> {
+			batch(next);
+			return nextBatch();
+		});
+	}
+
+	/**
+	 * @return whether or not there is another element. Completes without a request if the current batch has
+	 *         elements left or the server reported no further batches.
+	 */
+	public CompletableFuture<Boolean> hasMoreAsync() {
+		if (pos < result.getResult().size()) {
+			return CompletableFuture.completedFuture(true);
+		}
+		if (Boolean.TRUE != result.getHasMore()) {
+			return CompletableFuture.completedFuture(false);
+		}
+		return fetch().thenCompose(next -> {
+			batch(next);
+			return hasMoreAsync();
+		});
+	}
+
+	/**
+	 * Stops prefetching and waits for a batch which is currently requested. Has to be called before the cursor is
+	 * deleted, otherwise a further batch could be requested concurrently.
+	 *
+	 * @return whether or not the cursor still exists on the server
+	 */
+	public boolean stop() {
+		final CompletableFuture<CursorEntity> pending;
+		final boolean open;
+		synchronized (this) {
+			stopped = true;
+			pending = fetching;
+			open = more;
+		}
+		if (pending == null) {
+			return open;
+		}
+		try {
+			// the newest batch, the callback updating more may not have run yet
+			return Boolean.TRUE == pending.join().getHasMore();
+		} catch (final RuntimeException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Like {@link #stop()} but without blocking.
+	 *
+	 * @return whether or not the cursor still exists on the server, after a batch which is currently requested
+	 *         arrived
+	 */
+	public CompletableFuture<Boolean> stopAsync() {
+		final CompletableFuture<CursorEntity> pending;
+		final boolean open;
+		synchronized (this) {
+			stopped = true;
+			pending = fetching;
+			open = more;
+		}
+		if (pending == null) {
+			return CompletableFuture.completedFuture(open);
+		}
+		return pending.handle((batch, ex) -> ex == null && Boolean.TRUE == batch.getHasMore());
+	}
+
+	private T get(final int index) {
+		return elements != null ? await(elements).get(index) : element(result.getResult().get(index));
+	}
+
+	private void batch(final Batch<T> next) {
+		result = next.entity;
+		elements = next.elements;
+		pos = 0;
+	}
+
+	private static <R> R await(final CompletableFuture<R> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException | ExecutionException e) {
+			throw new ArangoDBException(e);
+		}
+	}
+
+	private synchronized CompletableFuture<Batch<T>> fetch() {
+		if (prefetch <= 0) {
+			return load(request());
+		}
+		fill();
+		final CompletableFuture<Batch<T>> next = prefetched.poll();
+		if (next == null) {
+			return load(request());
+		}
+		fill();
+		return next;
+	}
+
+	private synchronized void fill() {
+		if (!stopped && prefetch > 0 && fetching == null && more && prefetched.size() < prefetch) {
+			prefetched.add(load(request()));
+		}
+	}
+
+	private synchronized CompletableFuture<CursorEntity> request() {
+		final CompletableFuture<CursorEntity> next = execute.nextAsync(id);
+		fetching = next;
+		next.whenComplete((batch, ex) -> {
+			synchronized (this) {
+				// a consumer callback may already have requested the following batch
+				if (fetching == next) {
+					fetching = null;
+					more = ex == null && Boolean.TRUE == batch.getHasMore();
+				}
+				fill();
+			}
+		});
+		return next;
+	}
+
+	/**
+	 * @return the batch, its deserialization is started as soon as it arrived
+	 */
+	private CompletableFuture<Batch<T>> load(final CompletableFuture<CursorEntity> request) {
+		final Executor executor = deserializer;
+		return request.thenApply(
+			entity -> new Batch<>(entity, executor != null ? deserializeRanges(entity.getResult(), executor) : null));
+	}
+
+	@SuppressWarnings("unchecked")
+	private CompletableFuture<List<T>> deserializeRanges(final VPackSlice batch, final Executor executor) {
+		final int size = batch.size();
+		final Object[] deserialized = new Object[size];
+		final CompletableFuture<?>[] ranges = new CompletableFuture<?>[(size + DESERIALIZATION_RANGE - 1)
+				/ DESERIALIZATION_RANGE];
+		for (int i = 0; i < ranges.length; i++) {
+			final int from = i * DESERIALIZATION_RANGE;
+			final int to = Math.min(size, from + DESERIALIZATION_RANGE);
+			ranges[i] = CompletableFuture.runAsync(() -> {
+				for (int index = from; index < to; index++) {
+					deserialized[index] = element(batch.get(index));
+				}
+			}, executor);
+		}
+		// every element is written by exactly one range, completing the ranges publishes them
+		return CompletableFuture.allOf(ranges).thenApply(v -> (List<T>) Arrays.asList(deserialized));
+	}
+
+	private static class Batch<T> {
+
+		private final CursorEntity entity;
+		private final CompletableFuture<List<T>> elements;
+
+		private Batch(final CursorEntity entity, final CompletableFuture<List<T>> elements) {
+			super();
+			this.entity = entity;
+			this.elements = elements;
+		}
+	}
+
+}
@@ -26,7 +26,6 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
 
 import com.arangodb.ArangoDBAsync;
 import com.arangodb.ArangoDBException;
@@ -38,19 +37,18 @@ import com.arangodb.entity.Permissions;
 import com.arangodb.entity.ServerRole;
 import com.arangodb.entity.UserEntity;
 import com.arangodb.internal.ArangoExecutor.ResponseDeserializer;
-import com.arangodb.internal.net.CommunicationProtocol;
 import com.arangodb.internal.net.HostResolver;
-import com.arangodb.internal.net.HostResolver.EndpointResolver;
+import com.arangodb.internal.net.RefreshingHostResolver;
 import com.arangodb.internal.util.ArangoSerializationFactory;
 import com.arangodb.internal.util.ArangoSerializationFactory.Serializer;
-import com.arangodb.internal.velocystream.VstCommunication;
 import com.arangodb.internal.velocystream.VstCommunicationAsync;
-import com.arangodb.internal.velocystream.VstCommunicationSync;
-import com.arangodb.internal.velocystream.VstProtocol;
-import com.arangodb.internal.velocystream.internal.VstConnectionSync;
+import com.arangodb.internal.velocystream.VstConnectionFactoryAsync;
 import com.arangodb.model.LogOptions;
 import com.arangodb.model.UserCreateOptions;
 import com.arangodb.model.UserUpdateOptions;
+import com.arangodb.monitoring.ConnectionStats;
+import com.arangodb.monitoring.RequestListener;
+import com.arangodb.tracing.Tracer;
 import com.arangodb.velocypack.VPackSlice;
 import com.arangodb.velocypack.exception.VPackException;
 import com.arangodb.velocystream.Request;
@@ -63,54 +61,50 @@ import com.arangodb.velocystream.Response;
  */
 public class ArangoDBAsyncImpl extends InternalArangoDB<ArangoExecutorAsync> implements ArangoDBAsync {
 
-	private final CommunicationProtocol cp;
+	private final RefreshingHostResolver refreshingHostResolver;
+	private final VstConnectionFactoryAsync connectionFactory;
+	private final HandleCache<ArangoDatabaseAsync> databases;
 
 	public ArangoDBAsyncImpl(final VstCommunicationAsync.Builder commBuilder, final ArangoSerializationFactory util,
-		final VstCommunicationSync.Builder syncbuilder, final HostResolver hostResolver, final ArangoContext context) {
-		super(new ArangoExecutorAsync(commBuilder.build(util.get(Serializer.INTERNAL)), util, new DocumentCache()),
+		final HostResolver hostResolver, final VstConnectionFactoryAsync connectionFactory, final ArangoContext context,
+		final DocumentCache documentCache, final HedgingPolicy hedgingPolicy, final RetryPolicy retryPolicy,
+		final Integer deserializationThreads, final int deserializationThreshold, final boolean lazyDeserialization,
+		final RequestListener[] requestListeners, final Tracer tracer) {
+		super(new ArangoExecutorAsync(commBuilder.build(util.get(Serializer.INTERNAL)), util, documentCache,
+				hedgingPolicy, retryPolicy, deserializationThreads, deserializationThreshold, lazyDeserialization,
+				requestListeners, tracer),
 				util, context);
-		final VstCommunication<Response, VstConnectionSync> cacheCom = syncbuilder.build(util.get(Serializer.INTERNAL));
-		cp = new VstProtocol(cacheCom);
-		hostResolver.init(new EndpointResolver() {
-			@Override
-			public Collection<String> resolve(final boolean closeConnections) throws ArangoDBException {
-				try {
-					return executor.execute(new Request(ArangoRequestParam.SYSTEM, RequestType.GET, PATH_ENDPOINTS),
-						new ResponseDeserializer<Collection<String>>() {
-							@Override
-							public Collection<String> deserialize(final Response response) throws VPackException {
-								final VPackSlice field = response.getBody().get("endpoints");
-								Collection<String> endpoints;
-								if (field.isNone()) {
-									endpoints = Collections.<String> emptyList();
-								} else {
-									final Collection<Map<String, String>> tmp = util().deserialize(field,
-										Collection.class);
-									endpoints = new ArrayList<>();
-									for (final Map<String, String> map : tmp) {
-										for (final String value : map.values()) {
-											endpoints.add(value);
-										}
-									}
-								}
-								return endpoints;
+		this.connectionFactory = connectionFactory;
+		databases = new HandleCache<>(name -> new ArangoDatabaseAsyncImpl(this, name));
+		if (hostResolver instanceof RefreshingHostResolver) {
+			refreshingHostResolver = RefreshingHostResolver.class.cast(hostResolver);
+			refreshingHostResolver.start(this::getEndpoints, executor.scheduler());
+		} else {
+			refreshingHostResolver = null;
+		}
+	}
+
+	private CompletableFuture<Collection<String>> getEndpoints() {
+		return executor.execute(new Request(ArangoRequestParam.SYSTEM, RequestType.GET, PATH_ENDPOINTS),
+			new ResponseDeserializer<Collection<String>>() {
+				@Override
+				public Collection<String> deserialize(final Response response) throws VPackException {
+					final VPackSlice field = response.getBody().get("endpoints");
+					Collection<String> endpoints;
+					if (field.isNone()) {
+						endpoints = Collections.<String> emptyList();
+					} else {
+						final Collection<Map<String, String>> tmp = util().deserialize(field, Collection.class);
+						endpoints = new ArrayList<>();
+						for (final Map<String, String> map : tmp) {
+							for (final String value : map.values()) {
+								endpoints.add(value);
 							}
-						}, null).get();
-				} catch (InterruptedException | ExecutionException e) {
-					throw new ArangoDBException(e);
-					// TODO
-					// if (e.getResponseCode() == 403) {
-					// response = Collections.<String> emptyList();
-					// } else {
-					// throw e;
-					// }
-				} finally {
-					if (closeConnections) {
-						ArangoDBAsyncImpl.this.shutdown();
+						}
 					}
+					return endpoints;
 				}
-			}
-		});
+			});
 	}
 
 	@Override
@@ -122,12 +116,19 @@ public class ArangoDBAsyncImpl extends InternalArangoDB<ArangoExecutorAsync> imp
 	public void shutdown() throws ArangoDBException {
 		try {
 			executor.disconnect();
-			cp.close();
+			if (refreshingHostResolver != null) {
+				refreshingHostResolver.close();
+			}
 		} catch (final IOException e) {
 			throw new ArangoDBException(e);
 		}
 	}
 
+	@Override
+	public Collection<ConnectionStats> getConnectionStats() {
+		return connectionFactory.getConnectionStats();
+	}
+
 	@Override
 	public ArangoDatabaseAsync db() {
 		return db(ArangoRequestParam.SYSTEM);
@@ -135,7 +136,7 @@ public class ArangoDBAsyncImpl extends InternalArangoDB<ArangoExecutorAsync> imp
 
 	@Override
 	public ArangoDatabaseAsync db(final String name) {
-		return new ArangoDatabaseAsyncImpl(this, name);
+		return databases.get(name);
 	}
 
 	@Override
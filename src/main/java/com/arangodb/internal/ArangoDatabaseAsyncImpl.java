@@ -25,6 +25,10 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import org.reactivestreams.Publisher;
 
 import com.arangodb.ArangoCollectionAsync;
 import com.arangodb.ArangoCursorAsync;
@@ -51,13 +55,14 @@ import com.arangodb.entity.QueryTrackingPropertiesEntity;
 import com.arangodb.entity.TraversalEntity;
 import com.arangodb.entity.ViewEntity;
 import com.arangodb.entity.ViewType;
+import com.arangodb.internal.jfr.JfrEvents;
 import com.arangodb.internal.net.HostHandle;
-import com.arangodb.internal.util.DocumentUtil;
 import com.arangodb.model.AqlFunctionCreateOptions;
 import com.arangodb.model.AqlFunctionDeleteOptions;
 import com.arangodb.model.AqlFunctionGetOptions;
 import com.arangodb.model.AqlQueryExplainOptions;
 import com.arangodb.model.AqlQueryOptions;
+import com.arangodb.model.AqlQueryOptionsAsync;
 import com.arangodb.model.CollectionCreateOptions;
 import com.arangodb.model.CollectionsReadOptions;
 import com.arangodb.model.DocumentReadOptions;
@@ -75,8 +80,13 @@ import com.arangodb.velocystream.Request;
 public class ArangoDatabaseAsyncImpl extends InternalArangoDatabase<ArangoDBAsyncImpl, ArangoExecutorAsync>
 		implements ArangoDatabaseAsync {
 
+	private final HandleCache<ArangoCollectionAsync> collections;
+	private final HandleCache<ArangoGraphAsync> graphs;
+
 	protected ArangoDatabaseAsyncImpl(final ArangoDBAsyncImpl arangoDB, final String name) {
 		super(arangoDB, name);
+		collections = new HandleCache<>(collection -> new ArangoCollectionAsyncImpl(this, collection));
+		graphs = new HandleCache<>(graph -> new ArangoGraphAsyncImpl(this, graph));
 	}
 
 	@Override
@@ -96,7 +106,7 @@ public class ArangoDatabaseAsyncImpl extends InternalArangoDatabase<ArangoDBAsyn
 
 	@Override
 	public ArangoCollectionAsync collection(final String name) {
-		return new ArangoCollectionAsyncImpl(this, name);
+		return collections.get(name);
 	}
 
 	@Override
@@ -124,16 +134,14 @@ public class ArangoDatabaseAsyncImpl extends InternalArangoDatabase<ArangoDBAsyn
 
 	@Override
 	public CompletableFuture<IndexEntity> getIndex(final String id) {
-		DocumentUtil.validateIndexId(id);
-		final String[] split = id.split("/");
-		return collection(split[0]).getIndex(split[1]);
+		final int separator = separator("index id", id);
+		return collection(id.substring(0, separator)).getIndex(id.substring(separator + 1));
 	}
 
 	@Override
 	public CompletableFuture<String> deleteIndex(final String id) {
-		DocumentUtil.validateIndexId(id);
-		final String[] split = id.split("/");
-		return collection(split[0]).deleteIndex(split[1]);
+		final int separator = separator("index id", id);
+		return collection(id.substring(0, separator)).deleteIndex(id.substring(separator + 1));
 	}
 
 	@Override
@@ -185,12 +193,32 @@ public class ArangoDatabaseAsyncImpl extends InternalArangoDatabase<ArangoDBAsyn
 		final Class<T> type) throws ArangoDBException {
 		final Request request = queryRequest(query, bindVars, options);
 		final HostHandle hostHandle = new HostHandle();
-		final CompletableFuture<CursorEntity> execution = executor.execute(request, CursorEntity.class, hostHandle);
+		final CompletableFuture<CursorEntity> execution;
+		if (options != null && options.getAllowDirtyRead() == Boolean.TRUE) {
+			execution = executor.executeHedged(request,
+				response -> executor.<CursorEntity> createResult(CursorEntity.class, response), hostHandle,
+				(result, loserHandle) -> {
+					if (result.getId() != null && Boolean.TRUE == result.getHasMore()) {
+						executor.execute(queryCloseRequest(result.getId(), options), Void.class, loserHandle);
+					}
+				});
+		} else {
+			execution = executor.execute(request, CursorEntity.class, hostHandle);
+		}
 		return execution.thenApply(result -> {
 			return createCursor(result, type, options, hostHandle);
 		});
 	}
 
+	@Override
+	public <T> Publisher<T> queryPublisher(
+		final String query,
+		final Map<String, Object> bindVars,
+		final AqlQueryOptions options,
+		final Class<T> type) {
+		return new CursorPublisher<>(() -> query(query, bindVars, options, type));
+	}
+
 	@Override
 	public <T> CompletableFuture<ArangoCursorAsync<T>> query(
 		final String query,
@@ -229,27 +257,51 @@ public class ArangoDatabaseAsyncImpl extends InternalArangoDatabase<ArangoDBAsyn
 		final Class<T> type,
 		final AqlQueryOptions options,
 		final HostHandle hostHandle) {
-		return new ArangoCursorAsyncImpl<>(this, new ArangoCursorExecute() {
+		final AqlQueryOptionsAsync asyncOptions = options instanceof AqlQueryOptionsAsync
+				? AqlQueryOptionsAsync.class.cast(options) : null;
+		final Integer prefetch = asyncOptions != null ? asyncOptions.getPrefetch() : null;
+		final Executor deserializer = asyncOptions != null
+				&& Boolean.TRUE == asyncOptions.getParallelDeserialization() ? ForkJoinPool.commonPool() : null;
+		return new ArangoCursorAsyncImpl<>(this, new ArangoCursorExecuteAsync() {
 			@Override
-			public CursorEntity next(final String id) {
+			public CompletableFuture<CursorEntity> nextAsync(final String id) {
+				final Object recording = JfrEvents.beginCursorBatch();
 				final CompletableFuture<CursorEntity> result = executor.execute(queryNextRequest(id, options),
 					CursorEntity.class, hostHandle);
+				if (recording == null) {
+					return result;
+				}
+				return result.thenApply(batch -> {
+					JfrEvents.commitCursorBatch(recording, id, hostHandle.getHost(),
+						batch.getResult() != null ? batch.getResult().getLength() : 0,
+						Boolean.TRUE == batch.getHasMore());
+					return batch;
+				});
+			}
+
+			@Override
+			public CursorEntity next(final String id) {
 				try {
-					return result.get();
+					return nextAsync(id).get();
 				} catch (InterruptedException | ExecutionException e) {
 					throw new ArangoDBException(e);
 				}
 			}
 
+			@Override
+			public CompletableFuture<Void> closeAsync(final String id) {
+				return executor.execute(queryCloseRequest(id, options), Void.class, hostHandle);
+			}
+
 			@Override
 			public void close(final String id) {
 				try {
-					executor.execute(queryCloseRequest(id, options), Void.class, hostHandle).get();
+					closeAsync(id).get();
 				} catch (InterruptedException | ExecutionException e) {
 					throw new ArangoDBException(e);
 				}
 			}
-		}, type, result);
+		}, type, result, prefetch, deserializer);
 	}
 
 	@Override
@@ -335,7 +387,7 @@ public class ArangoDatabaseAsyncImpl extends InternalArangoDatabase<ArangoDBAsyn
 
 	@Override
 	public ArangoGraphAsync graph(final String name) {
-		return new ArangoGraphAsyncImpl(this, name);
+		return graphs.get(name);
 	}
 
 	@Override
@@ -383,17 +435,15 @@ public class ArangoDatabaseAsyncImpl extends InternalArangoDatabase<ArangoDBAsyn
 
 	@Override
 	public <T> CompletableFuture<T> getDocument(final String id, final Class<T> type) throws ArangoDBException {
-		DocumentUtil.validateDocumentId(id);
-		final String[] split = id.split("/");
-		return collection(split[0]).getDocument(split[1], type);
+		final int separator = separator("document id", id);
+		return collection(id.substring(0, separator)).getDocument(id.substring(separator + 1), type);
 	}
 
 	@Override
 	public <T> CompletableFuture<T> getDocument(final String id, final Class<T> type, final DocumentReadOptions options)
 			throws ArangoDBException {
-		DocumentUtil.validateDocumentId(id);
-		final String[] split = id.split("/");
-		return collection(split[0]).getDocument(split[1], type, options);
+		final int separator = separator("document id", id);
+		return collection(id.substring(0, separator)).getDocument(id.substring(separator + 1), type, options);
 	}
 
 	@Override
@@ -432,4 +482,15 @@ public class ArangoDatabaseAsyncImpl extends InternalArangoDatabase<ArangoDBAsyn
 		return executor.execute(createArangoSearchRequest(name, options), ViewEntity.class);
 	}
 
+	/**
+	 * @return the position of the only slash separating the collection from the key in the given id
+	 */
+	private static int separator(final String type, final String id) throws ArangoDBException {
+		final int separator = id.indexOf('/');
+		if (separator <= 0 || separator == id.length() - 1 || id.indexOf('/', separator + 1) >= 0) {
+			throw new ArangoDBException(String.format("%s %s is not valid.", type, id));
+		}
+		return separator;
+	}
+
 }
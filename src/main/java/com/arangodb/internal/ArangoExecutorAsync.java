@@ -22,14 +22,32 @@ package com.arangodb.internal;
 
 import java.io.IOException;
 import java.lang.reflect.Type;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 
 import com.arangodb.ArangoDBException;
+import com.arangodb.internal.jfr.JfrEvents;
+import com.arangodb.internal.net.HostDescription;
 import com.arangodb.internal.net.HostHandle;
 import com.arangodb.internal.util.ArangoSerializationFactory;
 import com.arangodb.internal.velocystream.VstCommunicationAsync;
+import com.arangodb.monitoring.RequestListener;
+import com.arangodb.tracing.Span;
+import com.arangodb.tracing.Span.Scope;
+import com.arangodb.tracing.Tracer;
+import com.arangodb.velocypack.VPackSlice;
 import com.arangodb.velocypack.exception.VPackException;
 import com.arangodb.velocystream.Request;
+import com.arangodb.velocystream.Response;
 
 /**
  * @author Mark Vollmary
@@ -37,12 +55,66 @@ import com.arangodb.velocystream.Request;
  */
 public class ArangoExecutorAsync extends ArangoExecutor {
 
+	public static final int DEFAULT_DESERIALIZATION_THRESHOLD = 16 * 1024;
+
 	private final VstCommunicationAsync communication;
+	private final HedgingPolicy hedgingPolicy;
+	private final RetryPolicy retryPolicy;
+	private final ExecutorService deserializationExecutor;
+	private final int deserializationThreshold;
+	private final boolean lazyDeserialization;
+	private final RequestListener[] requestListeners;
+	private final Tracer tracer;
+	private ScheduledExecutorService scheduler;
+	private ExecutorService dispatcher;
 
+	/**
+	 * @param deserializationThreads
+	 *            number of threads to deserialize responses on or <code>null</code> to deserialize on the connection
+	 *            threads
+	 * @param deserializationThreshold
+	 *            minimum body size in bytes of a response to be deserialized on a deserialization thread
+	 * @param lazyDeserialization
+	 *            whether or not multi document results are deserialized on first access of an element
+	 * @param requestListeners
+	 *            listeners notified about the stages of every request
+	 * @param tracer
+	 *            tracer creating a span for every request or <code>null</code>
+	 */
 	public ArangoExecutorAsync(final VstCommunicationAsync communication, final ArangoSerializationFactory util,
-		final DocumentCache documentCache) {
+		final DocumentCache documentCache, final HedgingPolicy hedgingPolicy, final RetryPolicy retryPolicy,
+		final Integer deserializationThreads, final int deserializationThreshold, final boolean lazyDeserialization,
+		final RequestListener[] requestListeners, final Tracer tracer) {
 		super(util, documentCache);
 		this.communication = communication;
+		this.hedgingPolicy = hedgingPolicy;
+		this.retryPolicy = retryPolicy;
+		this.deserializationExecutor = deserializationThreads != null && deserializationThreads > 0
+				? createDeserializationExecutor(deserializationThreads) : null;
+		this.deserializationThreshold = deserializationThreshold;
+		this.lazyDeserialization = lazyDeserialization;
+		this.requestListeners = requestListeners;
+		this.tracer = tracer;
+		if (hedgingPolicy != null && hedgingPolicy.isAdaptive()) {
+			scheduler().scheduleWithFixedDelay(hedgingPolicy::recalculate, HedgingPolicy.RECALCULATE_INTERVAL,
+				HedgingPolicy.RECALCULATE_INTERVAL, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	public boolean isLazyDeserialization() {
+		return lazyDeserialization;
+	}
+
+	private static ExecutorService createDeserializationExecutor(final int threads) {
+		final AtomicInteger count = new AtomicInteger();
+		// when the queue is full (or after shutdown) the connection thread deserializes by itself
+		return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<Runnable>(threads * 256), runnable -> {
+					final Thread thread = new Thread(runnable,
+							"arangodb-async-deserializer-" + count.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				}, (runnable, executor) -> runnable.run());
 	}
 
 	public <T> CompletableFuture<T> execute(final Request request, final Type type) {
@@ -62,23 +134,320 @@ public class ArangoExecutorAsync extends ArangoExecutor {
 		final ResponseDeserializer<T> responseDeserializer,
 		final HostHandle hostHandle) {
 		final CompletableFuture<T> result = new CompletableFuture<>();
-		communication.execute(request, hostHandle).whenComplete((response, ex) -> {
+		final Object recording = JfrEvents.beginRequest();
+		final RequestContextImpl context = requestListeners.length > 0 || recording != null || tracer != null
+				? new RequestContextImpl(request) : null;
+		if (context != null) {
+			for (final RequestListener listener : requestListeners) {
+				listener.requestStarted(context);
+			}
+			result.whenComplete((r, ex) -> {
+				context.completed();
+				for (final RequestListener listener : requestListeners) {
+					listener.requestCompleted(context, ex);
+				}
+				JfrEvents.commitRequest(recording, context, ex);
+			});
+		}
+		final CompletableFuture<T> execution = tracer != null ? trace(request, result, context) : result;
+		try {
+			execute(request, responseDeserializer, hostHandle, execution, 0, context);
+		} catch (final ArangoDBException e) {
+			execution.completeExceptionally(e);
+			throw e;
+		}
+		return result;
+	}
+
+	/**
+	 * @return a future which completes the given result within the scope of a new span
+	 */
+	private <T> CompletableFuture<T> trace(
+		final Request request,
+		final CompletableFuture<T> result,
+		final RequestContextImpl context) {
+		final Span span = tracer.startSpan(context);
+		span.inject(request::putHeaderParam);
+		final CompletableFuture<T> execution = new CompletableFuture<>();
+		execution.whenComplete((value, ex) -> {
+			final Scope scope = span.activate();
+			try {
+				if (ex == null) {
+					result.complete(value);
+				} else {
+					result.completeExceptionally(ex);
+				}
+			} finally {
+				scope.close();
+				span.end(ex);
+			}
+		});
+		return execution;
+	}
+
+	private <T> void execute(
+		final Request request,
+		final ResponseDeserializer<T> responseDeserializer,
+		final HostHandle hostHandle,
+		final CompletableFuture<T> result,
+		final int attempt,
+		final RequestContextImpl context) {
+		// a listener needs to know the host, a retry may go to another one
+		final HostHandle handle = context != null && hostHandle == null ? new HostHandle() : hostHandle;
+		final CompletableFuture<Response> execution;
+		try {
+			execution = communication.execute(request, handle);
+		} catch (final ArangoDBException e) {
+			if (!retry(request, responseDeserializer, hostHandle, result, attempt, e, context)) {
+				if (attempt == 0) {
+					throw e;
+				}
+				result.completeExceptionally(e);
+			}
+			return;
+		}
+		if (context != null) {
+			context.sent(handle.getHost());
+			for (final RequestListener listener : requestListeners) {
+				listener.requestSent(context);
+			}
+		}
+		execution.whenComplete((response, ex) -> {
 			if (response != null) {
-				try {
-					result.complete(responseDeserializer.deserialize(response));
-				} catch (final VPackException | ArangoDBException e) {
-					result.completeExceptionally(e);
+				if (retryPolicy != null) {
+					retryPolicy.success();
+				}
+				if (context != null) {
+					context.received(response);
+					for (final RequestListener listener : requestListeners) {
+						listener.responseReceived(context);
+					}
+				}
+				final VPackSlice body = response.getBody();
+				if (deserializationExecutor != null && body != null
+						&& body.getByteSize() >= deserializationThreshold) {
+					deserializationExecutor
+							.execute(() -> deserialize(response, responseDeserializer, result, context));
+				} else {
+					deserialize(response, responseDeserializer, result, context);
 				}
 			} else if (ex != null) {
-				result.completeExceptionally(ex);
+				if (!retry(request, responseDeserializer, hostHandle, result, attempt, ex, context)) {
+					result.completeExceptionally(ex);
+				}
 			} else {
 				result.cancel(true);
 			}
 		});
-		return result;
+	}
+
+	private <T> void deserialize(
+		final Response response,
+		final ResponseDeserializer<T> responseDeserializer,
+		final CompletableFuture<T> result,
+		final RequestContextImpl context) {
+		try {
+			final T value = responseDeserializer.deserialize(response);
+			if (context != null) {
+				context.deserialized();
+				for (final RequestListener listener : requestListeners) {
+					listener.responseDeserialized(context);
+				}
+			}
+			result.complete(value);
+		} catch (final VPackException | ArangoDBException e) {
+			result.completeExceptionally(e);
+		}
+	}
+
+	private <T> boolean retry(
+		final Request request,
+		final ResponseDeserializer<T> responseDeserializer,
+		final HostHandle hostHandle,
+		final CompletableFuture<T> result,
+		final int attempt,
+		final Throwable failure,
+		final RequestContextImpl context) {
+		if (retryPolicy == null) {
+			return false;
+		}
+		final long delay = retryPolicy.retryDelay(request, failure, attempt);
+		if (delay < 0) {
+			return false;
+		}
+		try {
+			// a retry may have to reconnect, which must not block the timers on the scheduler
+			scheduler().schedule(
+				() -> dispatch(() -> execute(request, responseDeserializer, hostHandle, result, attempt + 1, context),
+					() -> result.completeExceptionally(failure)),
+				delay, TimeUnit.NANOSECONDS);
+			return true;
+		} catch (final RejectedExecutionException e) {
+			// already disconnected
+			return false;
+		}
+	}
+
+	/**
+	 * Runs the given task on the dispatcher or the given fallback if the dispatcher is already shut down.
+	 */
+	private void dispatch(final Runnable task, final Runnable rejected) {
+		try {
+			dispatcher().execute(task);
+		} catch (final RejectedExecutionException e) {
+			rejected.run();
+		}
+	}
+
+	public <T> CompletableFuture<T> executeHedged(final Request request, final Type type) {
+		return executeHedged(request, (response) -> createResult(type, response), null, null);
+	}
+
+	public <T> CompletableFuture<T> executeHedged(
+		final Request request,
+		final ResponseDeserializer<T> responseDeserializer) {
+		return executeHedged(request, responseDeserializer, null, null);
+	}
+
+	/**
+	 * Executes an idempotent read. If hedging is enabled and no response was received after the delay given by the
+	 * {@link HedgingPolicy}, a duplicate of the request is sent to another host and the first successful response
+	 * wins.
+	 * 
+	 * @param hostHandle
+	 *            gets the host of the winning request, can be <code>null</code>
+	 * @param discard
+	 *            gets the result of a losing request together with the host it was executed on, can be
+	 *            <code>null</code>
+	 */
+	public <T> CompletableFuture<T> executeHedged(
+		final Request request,
+		final ResponseDeserializer<T> responseDeserializer,
+		final HostHandle hostHandle,
+		final BiConsumer<T, HostHandle> discard) {
+		if (hedgingPolicy == null) {
+			return execute(request, responseDeserializer, hostHandle);
+		}
+		// every request keeps its own handle, so that a losing request can be discarded on the host it ran on
+		final HostHandle primaryHandle = new HostHandle().setHost(hostHandle != null ? hostHandle.getHost() : null);
+		final HedgedExecution<T> execution = new HedgedExecution<>(hostHandle, discard);
+		final long start = System.nanoTime();
+		final long delay = hedgingPolicy.delay();
+		// the primary is sent first, so that its host is known when the duplicate picks another one
+		final CompletableFuture<T> primary = execute(request, responseDeserializer, primaryHandle);
+		final ScheduledFuture<?> hedge = delay < 0 || primary.isDone() ? null : scheduler().schedule(() -> {
+			final HostDescription alternative = hedgingPolicy.alternative(primaryHandle.getHost());
+			if (alternative != null && execution.hedge()) {
+				final HostHandle hedgeHandle = new HostHandle().setHost(alternative);
+				dispatch(() -> {
+					try {
+						execute(request, responseDeserializer, hedgeHandle)
+								.whenComplete((result, ex) -> execution.complete(result, ex, hedgeHandle));
+					} catch (final ArangoDBException e) {
+						execution.complete(null, e, hedgeHandle);
+					}
+				}, () -> execution.complete(null, new ArangoDBException("Already disconnected"), hedgeHandle));
+			}
+		}, delay, TimeUnit.NANOSECONDS);
+		primary.whenComplete((result, ex) -> {
+			if (hedge != null) {
+				hedge.cancel(false);
+			}
+			if (ex == null) {
+				hedgingPolicy.record(System.nanoTime() - start);
+			}
+			execution.complete(result, ex, primaryHandle);
+		});
+		return execution.result;
+	}
+
+	private static class HedgedExecution<T> {
+
+		private final CompletableFuture<T> result;
+		private final HostHandle hostHandle;
+		private final BiConsumer<T, HostHandle> discard;
+		private int pending;
+		private boolean done;
+
+		private HedgedExecution(final HostHandle hostHandle, final BiConsumer<T, HostHandle> discard) {
+			super();
+			this.hostHandle = hostHandle;
+			this.discard = discard;
+			result = new CompletableFuture<>();
+			pending = 1;
+		}
+
+		private synchronized boolean hedge() {
+			if (done) {
+				return false;
+			}
+			pending++;
+			return true;
+		}
+
+		private void complete(final T value, final Throwable ex, final HostHandle handle) {
+			final boolean won;
+			synchronized (this) {
+				pending--;
+				won = !done && (ex == null || pending == 0);
+				if (won) {
+					done = true;
+					if (ex == null && hostHandle != null) {
+						hostHandle.setHost(handle.getHost());
+					}
+				}
+			}
+			if (won) {
+				if (ex == null) {
+					result.complete(value);
+				} else {
+					result.completeExceptionally(ex);
+				}
+			} else if (ex == null && discard != null) {
+				discard.accept(value, handle);
+			}
+		}
+	}
+
+	protected synchronized ScheduledExecutorService scheduler() {
+		if (scheduler == null) {
+			scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				final Thread thread = new Thread(runnable, "arangodb-async-scheduler");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return scheduler;
+	}
+
+	/**
+	 * @return executor which sends retries and duplicates of hedged reads, so that connecting to a host does not
+	 *         block the scheduler
+	 */
+	protected synchronized ExecutorService dispatcher() {
+		if (dispatcher == null) {
+			final AtomicInteger count = new AtomicInteger();
+			dispatcher = Executors.newCachedThreadPool(runnable -> {
+				final Thread thread = new Thread(runnable, "arangodb-async-dispatcher-" + count.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return dispatcher;
 	}
 
 	public void disconnect() throws IOException {
+		synchronized (this) {
+			if (scheduler != null) {
+				scheduler.shutdownNow();
+			}
+			if (dispatcher != null) {
+				dispatcher.shutdown();
+			}
+		}
+		if (deserializationExecutor != null) {
+			deserializationExecutor.shutdown();
+		}
 		communication.close();
 	}
 }
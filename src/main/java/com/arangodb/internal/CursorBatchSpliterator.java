@@ -0,0 +1,95 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.internal;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * {@link Spliterator} over a range of the elements of a cursor batch. Elements which are not deserialized yet are
+ * deserialized on the thread which traverses the spliterator.
+ */
+public class CursorBatchSpliterator<T> implements Spliterator<T> {
+
+	private final IntFunction<T> elements;
+	private final int characteristics;
+	private int index;
+	private final int end;
+
+	/**
+	 * @param elements
+	 *            returns the element of the batch at the given index
+	 * @param index
+	 *            first index (inclusive)
+	 * @param end
+	 *            last index (exclusive)
+	 * @param characteristics
+	 *            characteristics in addition to <code>SIZED</code> and <code>SUBSIZED</code>
+	 */
+	public CursorBatchSpliterator(final IntFunction<T> elements, final int index, final int end,
+		final int characteristics) {
+		super();
+		this.elements = elements;
+		this.index = index;
+		this.end = end;
+		this.characteristics = characteristics | Spliterator.SIZED | Spliterator.SUBSIZED;
+	}
+
+	@Override
+	public boolean tryAdvance(final Consumer<? super T> action) {
+		if (index >= end) {
+			return false;
+		}
+		action.accept(elements.apply(index++));
+		return true;
+	}
+
+	@Override
+	public void forEachRemaining(final Consumer<? super T> action) {
+		for (; index < end; index++) {
+			action.accept(elements.apply(index));
+		}
+	}
+
+	@Override
+	public Spliterator<T> trySplit() {
+		final int mid = (index + end) >>> 1;
+		if (mid <= index) {
+			return null;
+		}
+		final Spliterator<T> prefix = new CursorBatchSpliterator<>(elements, index, mid, characteristics);
+		index = mid;
+		return prefix;
+	}
+
+	@Override
+	public long estimateSize() {
+		return end - index;
+	}
+
+	@Override
+	public int characteristics() {
+		return characteristics;
+	}
+
+}
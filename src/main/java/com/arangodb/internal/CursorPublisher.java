@@ -0,0 +1,205 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.internal;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.arangodb.ArangoCursorAsync;
+
+/**
+ * {@link Publisher} of the results of a query. Every subscription executes the query and fetches the next batch of
+ * the cursor only when the subscriber requested more elements than the current batch contains. Cancelling a
+ * subscription deletes the cursor on the server. A <code>null</code> element, which must not be signalled (rule
+ * 2.13), deletes the cursor and signals a {@link NullPointerException} instead.
+ */
+public class CursorPublisher<T> implements Publisher<T> {
+
+	private final Supplier<CompletableFuture<ArangoCursorAsync<T>>> query;
+
+	/**
+	 * @param query
+	 *            executes the query
+	 */
+	public CursorPublisher(final Supplier<CompletableFuture<ArangoCursorAsync<T>>> query) {
+		super();
+		this.query = query;
+	}
+
+	@Override
+	public void subscribe(final Subscriber<? super T> subscriber) {
+		Objects.requireNonNull(subscriber);
+		subscriber.onSubscribe(new CursorSubscription<>(subscriber, query));
+	}
+
+	private static class CursorSubscription<T> implements Subscription {
+
+		private final Subscriber<? super T> subscriber;
+		private final Supplier<CompletableFuture<ArangoCursorAsync<T>>> query;
+		private final AtomicLong requested;
+		private final AtomicInteger wip;
+		private volatile boolean cancelled;
+		private volatile boolean fetching;
+		private volatile Throwable error;
+		private volatile ArangoCursorAsyncImpl<T> cursor;
+		private volatile List<T> batch;
+		private int index;
+		private boolean done;
+
+		private CursorSubscription(final Subscriber<? super T> subscriber,
+			final Supplier<CompletableFuture<ArangoCursorAsync<T>>> query) {
+			super();
+			this.subscriber = subscriber;
+			this.query = query;
+			requested = new AtomicLong();
+			wip = new AtomicInteger();
+		}
+
+		@Override
+		public void request(final long n) {
+			if (n <= 0) {
+				error = new IllegalArgumentException("non-positive request signals are illegal (rule 3.9)");
+			} else {
+				long current;
+				long next;
+				do {
+					current = requested.get();
+					next = current + n < 0 ? Long.MAX_VALUE : current + n;
+				} while (!requested.compareAndSet(current, next));
+			}
+			drain();
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+			drain();
+		}
+
+		/**
+		 * Signals the subscriber. Only one thread at a time runs the loop, calls from other threads make it run once
+		 * more.
+		 */
+		private void drain() {
+			if (wip.getAndIncrement() != 0) {
+				return;
+			}
+			int missed = 1;
+			do {
+				// a running fetch calls drain again when it is done
+				if (!done && !fetching) {
+					if (cancelled) {
+						close();
+					} else if (error != null) {
+						close();
+						subscriber.onError(error);
+					} else {
+						emit();
+					}
+				}
+				missed = wip.addAndGet(-missed);
+			} while (missed != 0);
+		}
+
+		private void emit() {
+			final List<T> elements = batch;
+			if (elements != null) {
+				final long demand = requested.get();
+				long emitted = 0;
+				while (emitted < demand && index < elements.size() && !cancelled) {
+					final T element = elements.get(index++);
+					if (element == null) {
+						close();
+						subscriber.onError(new NullPointerException("the query returned a null element (rule 2.13)"));
+						return;
+					}
+					emitted++;
+					try {
+						subscriber.onNext(element);
+					} catch (final RuntimeException e) {
+						// rule 2.13, the subscription is considered cancelled
+						cancelled = true;
+						close();
+						return;
+					}
+				}
+				if (emitted > 0 && demand != Long.MAX_VALUE) {
+					requested.addAndGet(-emitted);
+				}
+				if (index < elements.size() || cancelled) {
+					return;
+				}
+			}
+			final ArangoCursorAsyncImpl<T> current = cursor;
+			if (current != null && (elements != null && elements.isEmpty() || !current.hasNext())) {
+				done = true;
+				subscriber.onComplete();
+			} else if (requested.get() > 0) {
+				fetch(current);
+			}
+		}
+
+		private void fetch(final ArangoCursorAsyncImpl<T> current) {
+			fetching = true;
+			CompletableFuture<List<T>> next;
+			try {
+				next = current != null ? current.nextBatch() : query.get().thenCompose(created -> {
+					cursor = (ArangoCursorAsyncImpl<T>) created;
+					return created.nextBatch();
+				});
+			} catch (final RuntimeException e) {
+				next = new CompletableFuture<>();
+				next.completeExceptionally(e);
+			}
+			next.whenComplete((elements, ex) -> {
+				if (ex != null) {
+					error = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+				} else {
+					batch = elements;
+					index = 0;
+				}
+				fetching = false;
+				drain();
+			});
+		}
+
+		private void close() {
+			done = true;
+			batch = null;
+			final ArangoCursorAsyncImpl<T> current = cursor;
+			if (current != null) {
+				cursor = null;
+				current.closeAsync();
+			}
+		}
+	}
+
+}
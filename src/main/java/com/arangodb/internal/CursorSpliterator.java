@@ -0,0 +1,95 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.internal;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * {@link Spliterator} over the remaining elements of a cursor. A split hands off a whole batch, which can be split
+ * further. This way a parallel stream deserializes and processes the batches on several threads, while this
+ * spliterator fetches the next batches.
+ */
+public class CursorSpliterator<T> implements Spliterator<T> {
+
+	private final ArangoCursorAsyncIterator<T> iterator;
+	private final int characteristics;
+	private long remaining;
+
+	/**
+	 * @param iterator
+	 *            the iterator of the cursor
+	 * @param count
+	 *            the number of all results of the cursor or <code>null</code> if it is unknown
+	 * @param nonNull
+	 *            whether or not the deserialized elements are never <code>null</code>
+	 */
+	public CursorSpliterator(final ArangoCursorAsyncIterator<T> iterator, final Integer count,
+		final boolean nonNull) {
+		super();
+		this.iterator = iterator;
+		int characteristics = Spliterator.ORDERED;
+		if (nonNull) {
+			characteristics |= Spliterator.NONNULL;
+		}
+		if (count != null) {
+			characteristics |= Spliterator.SIZED | Spliterator.SUBSIZED;
+			remaining = count - iterator.getConsumed();
+		} else {
+			remaining = Long.MAX_VALUE;
+		}
+		this.characteristics = characteristics;
+	}
+
+	@Override
+	public boolean tryAdvance(final Consumer<? super T> action) {
+		if (!iterator.hasNext()) {
+			return false;
+		}
+		final T element = iterator.next();
+		if (remaining != Long.MAX_VALUE) {
+			remaining--;
+		}
+		action.accept(element);
+		return true;
+	}
+
+	@Override
+	public Spliterator<T> trySplit() {
+		final Spliterator<T> batch = iterator.splitBatch(characteristics & (Spliterator.ORDERED | Spliterator.NONNULL));
+		if (batch != null && remaining != Long.MAX_VALUE) {
+			remaining -= batch.estimateSize();
+		}
+		return batch;
+	}
+
+	@Override
+	public long estimateSize() {
+		return remaining;
+	}
+
+	@Override
+	public int characteristics() {
+		return characteristics;
+	}
+
+}
@@ -0,0 +1,62 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Keeps the handles (database, collection, graph) created by name, so that they are not created again on every
+ * access. The number of cached handles is limited; beyond the limit handles are created but not cached.
+ */
+public class HandleCache<T> {
+
+	static final int MAX_SIZE = 1024;
+
+	private final ConcurrentMap<String, T> handles;
+	private final Function<String, T> factory;
+
+	/**
+	 * @param factory
+	 *            creates the handle for a name
+	 */
+	public HandleCache(final Function<String, T> factory) {
+		super();
+		this.factory = factory;
+		handles = new ConcurrentHashMap<>();
+	}
+
+	public T get(final String name) {
+		final T handle = handles.get(name);
+		if (handle != null) {
+			return handle;
+		}
+		final T created = factory.apply(name);
+		if (handles.size() >= MAX_SIZE) {
+			return created;
+		}
+		final T existing = handles.putIfAbsent(name, created);
+		return existing != null ? existing : created;
+	}
+
+}
@@ -0,0 +1,128 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.arangodb.internal.net.Host;
+import com.arangodb.internal.net.HostDescription;
+import com.arangodb.internal.net.HostResolver;
+import com.arangodb.monitoring.LatencyHistogram;
+
+/**
+ * Decides when a duplicate of an idempotent read is sent to another host and which host that is.
+ *
+ * <p>
+ * Without a fixed delay, the 95th percentile of the recently observed read latencies is used. Until enough reads
+ * were observed, no duplicates are sent at all. Latencies are recorded lock-free, the percentile is recalculated
+ * periodically through {@link #recalculate()}.
+ * </p>
+ */
+public class HedgingPolicy {
+
+	public static final long RECALCULATE_INTERVAL = 1000L;
+	private static final int MIN_SAMPLES = 64;
+	private static final int SAMPLE_SIZE = 1024;
+	private static final double PERCENTILE = 95;
+
+	private final HostResolver hostResolver;
+	private final Long delay;
+	private final LatencyHistogram samples;
+	private volatile long percentile;
+
+	/**
+	 * @param hostResolver
+	 *            resolver of the hosts a duplicate can be sent to
+	 * @param delay
+	 *            fixed delay in milliseconds before a duplicate is sent or <code>null</code> to use the observed 95th
+	 *            percentile
+	 */
+	public HedgingPolicy(final HostResolver hostResolver, final Long delay) {
+		super();
+		this.hostResolver = hostResolver;
+		this.delay = delay;
+		samples = new LatencyHistogram();
+		percentile = -1L;
+	}
+
+	/**
+	 * @return <code>true</code> if the delay is derived from the observed latencies and therefore has to be
+	 *         recalculated periodically
+	 */
+	public boolean isAdaptive() {
+		return delay == null;
+	}
+
+	/**
+	 * @return the delay in nanoseconds before a duplicate is sent or a negative value if no duplicate should be sent
+	 */
+	public long delay() {
+		return delay != null ? TimeUnit.MILLISECONDS.toNanos(delay) : percentile;
+	}
+
+	/**
+	 * @param duration
+	 *            the duration of a successful read in nanoseconds
+	 */
+	public void record(final long duration) {
+		if (delay == null) {
+			samples.record(duration);
+		}
+	}
+
+	/**
+	 * Recalculates the percentile from the latencies recorded since the last reset. Once enough latencies were
+	 * recorded, they are reset, so that the percentile follows the recent latencies.
+	 */
+	public void recalculate() {
+		final long count = samples.getCount();
+		if (count >= MIN_SAMPLES) {
+			percentile = samples.getValueAtPercentile(PERCENTILE);
+			if (count >= SAMPLE_SIZE) {
+				samples.reset();
+			}
+		}
+	}
+
+	/**
+	 * @param primary
+	 *            the host the original request was sent to, can be <code>null</code>
+	 * @return a random host other than the given one or <code>null</code> if there is none
+	 */
+	public HostDescription alternative(final HostDescription primary) {
+		final List<Host> hosts = hostResolver.resolve(false, false);
+		final int size = hosts.size();
+		if (size == 0) {
+			return null;
+		}
+		final int offset = ThreadLocalRandom.current().nextInt(size);
+		for (int i = 0; i < size; i++) {
+			final HostDescription description = hosts.get((offset + i) % size).getDescription();
+			if (!description.equals(primary)) {
+				return description;
+			}
+		}
+		return null;
+	}
+
+}
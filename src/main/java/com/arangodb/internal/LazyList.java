@@ -0,0 +1,138 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.internal;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+import com.arangodb.entity.ErrorEntity;
+import com.arangodb.entity.MultiDocumentEntity;
+import com.arangodb.velocypack.VPackSlice;
+
+/**
+ * Read-only list which deserializes its elements from the underlying {@link VPackSlice}s on first access. Every
+ * element is deserialized at most once (concurrent first accesses may deserialize it twice, but all callers see the
+ * same instance).
+ *
+ * @param <E>
+ *            element type
+ */
+public class LazyList<E> extends AbstractList<E> implements RandomAccess {
+
+	private final List<VPackSlice> slices;
+	private final Function<VPackSlice, E> deserializer;
+	private final AtomicReferenceArray<E> values;
+
+	public LazyList(final List<VPackSlice> slices, final Function<VPackSlice, E> deserializer) {
+		super();
+		this.slices = slices;
+		this.deserializer = deserializer;
+		values = new AtomicReferenceArray<>(slices.size());
+	}
+
+	@Override
+	public E get(final int index) {
+		final E value = values.get(index);
+		if (value != null) {
+			return value;
+		}
+		final E deserialized = deserializer.apply(slices.get(index));
+		return values.compareAndSet(index, null, deserialized) ? deserialized : values.get(index);
+	}
+
+	@Override
+	public int size() {
+		return values.length();
+	}
+
+	/**
+	 * Creates a {@link MultiDocumentEntity} whose documents and errors are only deserialized when accessed.
+	 *
+	 * @param body
+	 *            array of documents and errors
+	 * @param documentDeserializer
+	 *            deserializer of a single document
+	 * @param errorDeserializer
+	 *            deserializer of a single error
+	 * @return the entity
+	 */
+	public static <T> MultiDocumentEntity<T> multiDocument(
+		final VPackSlice body,
+		final Function<VPackSlice, T> documentDeserializer,
+		final Function<VPackSlice, ErrorEntity> errorDeserializer) {
+		final List<VPackSlice> documentSlices = new ArrayList<>();
+		final List<VPackSlice> errorSlices = new ArrayList<>();
+		// non-negative: index of a document, negative: -(index of an error + 1)
+		final int[] positions = new int[body.isArray() ? body.getLength() : 0];
+		int i = 0;
+		if (body.isArray()) {
+			for (final Iterator<VPackSlice> iterator = body.arrayIterator(); iterator.hasNext();) {
+				final VPackSlice next = iterator.next();
+				if (next.get(ArangoResponseField.ERROR).isTrue()) {
+					errorSlices.add(next);
+					positions[i++] = -errorSlices.size();
+				} else {
+					positions[i++] = documentSlices.size();
+					documentSlices.add(next);
+				}
+			}
+		}
+		final LazyList<T> documents = new LazyList<>(documentSlices, documentDeserializer);
+		final LazyList<ErrorEntity> errors = new LazyList<>(errorSlices, errorDeserializer);
+		final MultiDocumentEntity<T> multiDocument = new MultiDocumentEntity<>();
+		multiDocument.setDocuments(documents);
+		multiDocument.setErrors(errors);
+		multiDocument.setDocumentsAndErrors(new DocumentsAndErrors(positions, documents, errors));
+		return multiDocument;
+	}
+
+	private static class DocumentsAndErrors extends AbstractList<Object> implements RandomAccess {
+
+		private final int[] positions;
+		private final List<?> documents;
+		private final List<ErrorEntity> errors;
+
+		private DocumentsAndErrors(final int[] positions, final List<?> documents, final List<ErrorEntity> errors) {
+			super();
+			this.positions = positions;
+			this.documents = documents;
+			this.errors = errors;
+		}
+
+		@Override
+		public Object get(final int index) {
+			final int position = positions[index];
+			return position >= 0 ? documents.get(position) : errors.get(-position - 1);
+		}
+
+		@Override
+		public int size() {
+			return positions.length;
+		}
+	}
+
+}
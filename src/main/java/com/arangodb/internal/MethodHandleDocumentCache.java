@@ -0,0 +1,123 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.entity.DocumentField;
+import com.arangodb.velocypack.VPackSlice;
+
+/**
+ * {@link DocumentCache} which writes the fields annotated with {@link DocumentField} through method handles. The
+ * handles are looked up once per class and kept in a {@link ClassValue}, which is safe to use from concurrent
+ * response deserializers. Values without such fields ({@link Map}, {@link Collection}, {@link VPackSlice},
+ * {@link CharSequence}, <code>byte[]</code>, {@link ByteBuffer}) are skipped right away.
+ */
+public class MethodHandleDocumentCache extends DocumentCache {
+
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, String.class);
+	private static final DocumentField.Type[] TYPES = DocumentField.Type.values();
+	private static final MethodHandle[] NONE = new MethodHandle[0];
+
+	private static final ClassValue<MethodHandle[]> SETTERS = new ClassValue<MethodHandle[]>() {
+		@Override
+		protected MethodHandle[] computeValue(final Class<?> type) {
+			return isTypeRestricted(type) ? NONE : createSetters(type);
+		}
+	};
+
+	private final boolean enabled;
+
+	/**
+	 * @param enabled
+	 *            whether or not the fields are written at all
+	 */
+	public MethodHandleDocumentCache(final boolean enabled) {
+		super();
+		this.enabled = enabled;
+	}
+
+	@Override
+	public void setValues(final Object doc, final Map<DocumentField.Type, String> values) throws ArangoDBException {
+		if (!enabled || doc == null) {
+			return;
+		}
+		final MethodHandle[] setters = SETTERS.get(doc.getClass());
+		if (setters == NONE) {
+			return;
+		}
+		for (final Entry<DocumentField.Type, String> value : values.entrySet()) {
+			final MethodHandle setter = setters[value.getKey().ordinal()];
+			if (setter != null) {
+				try {
+					setter.invokeExact(doc, value.getValue());
+				} catch (final Throwable e) {
+					throw new ArangoDBException(e);
+				}
+			}
+		}
+	}
+
+	private static boolean isTypeRestricted(final Class<?> type) {
+		return Map.class.isAssignableFrom(type) || Collection.class.isAssignableFrom(type)
+				|| VPackSlice.class.isAssignableFrom(type) || CharSequence.class.isAssignableFrom(type)
+				|| ByteBuffer.class.isAssignableFrom(type) || type.isArray() || type.isPrimitive();
+	}
+
+	private static MethodHandle[] createSetters(final Class<?> type) {
+		final MethodHandle[] setters = new MethodHandle[TYPES.length];
+		boolean found = false;
+		for (Class<?> tmp = type; tmp != null && tmp != Object.class; tmp = tmp.getSuperclass()) {
+			for (final Field field : tmp.getDeclaredFields()) {
+				final DocumentField annotation = field.getAnnotation(DocumentField.class);
+				if (annotation != null && !field.isSynthetic() && !Modifier.isStatic(field.getModifiers())
+						&& String.class.isAssignableFrom(field.getType())) {
+					final int index = annotation.value().ordinal();
+					if (setters[index] == null) {
+						setters[index] = unreflectSetter(field);
+						found = true;
+					}
+				}
+			}
+		}
+		return found ? setters : NONE;
+	}
+
+	private static MethodHandle unreflectSetter(final Field field) {
+		try {
+			field.setAccessible(true);
+			return MethodHandles.lookup().unreflectSetter(field).asType(SETTER_TYPE);
+		} catch (final IllegalAccessException | RuntimeException e) {
+			throw new ArangoDBException(e);
+		}
+	}
+
+}
@@ -0,0 +1,168 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.internal;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.util.Arrays;
+import java.util.Collection;
+
+import com.arangodb.internal.net.HostDescription;
+import com.arangodb.monitoring.RequestContext;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocystream.Request;
+import com.arangodb.velocystream.Response;
+
+/**
+ * {@link RequestContext} of a request executed by {@link ArangoExecutorAsync}. Operation and collection are only
+ * derived from the request path when asked for.
+ */
+public class RequestContextImpl implements RequestContext {
+
+	private static final char SLASH = '/';
+	private static final String COLLECTION = "collection";
+	private static final String GHARIAL = "gharial";
+	private static final Collection<String> COLLECTION_RESOURCES = Arrays.asList("document", COLLECTION, "index",
+		"edges");
+
+	private final Request request;
+	private final long startTime;
+	private volatile HostDescription host;
+	private volatile int responseSize;
+	private volatile long sentTime;
+	private volatile long receivedTime;
+	private volatile long deserializedTime;
+	private volatile long completedTime;
+
+	public RequestContextImpl(final Request request) {
+		super();
+		this.request = request;
+		responseSize = -1;
+		startTime = System.nanoTime();
+	}
+
+	void sent(final HostDescription host) {
+		this.host = host;
+		sentTime = System.nanoTime();
+	}
+
+	void received(final Response response) {
+		final VPackSlice body = response.getBody();
+		responseSize = body != null ? body.getByteSize() : 0;
+		receivedTime = System.nanoTime();
+	}
+
+	void deserialized() {
+		deserializedTime = System.nanoTime();
+	}
+
+	void completed() {
+		completedTime = System.nanoTime();
+	}
+
+	@Override
+	public String getOperation() {
+		final String path = request.getRequest();
+		final int end = path.indexOf(SLASH, path.indexOf(SLASH, 1) + 1);
+		return request.getRequestType() + " " + (end > 0 ? path.substring(0, end) : path);
+	}
+
+	@Override
+	public String getPath() {
+		return request.getRequest();
+	}
+
+	@Override
+	public String getDatabase() {
+		return request.getDatabase();
+	}
+
+	@Override
+	public String getCollection() {
+		// e.g. /_api/document/{collection}/{key} or /_api/gharial/{graph}/vertex/{collection}/{key}
+		final String[] segments = request.getRequest().split("/");
+		if (segments.length > 3 && COLLECTION_RESOURCES.contains(segments[2])) {
+			return decode(segments[3]);
+		}
+		if (segments.length > 5 && GHARIAL.equals(segments[2])
+				&& ("vertex".equals(segments[4]) || "edge".equals(segments[4]))) {
+			return decode(segments[5]);
+		}
+		return request.getQueryParam().get(COLLECTION);
+	}
+
+	private static String decode(final String segment) {
+		try {
+			return URLDecoder.decode(segment, "UTF-8");
+		} catch (final UnsupportedEncodingException e) {
+			return segment;
+		}
+	}
+
+	@Override
+	public String getHost() {
+		final HostDescription description = host;
+		return description != null ? description.getHost() + ":" + description.getPort() : null;
+	}
+
+	@Override
+	public int getRequestSize() {
+		final VPackSlice body = request.getBody();
+		return body != null ? body.getByteSize() : 0;
+	}
+
+	@Override
+	public VPackSlice getRequestBody() {
+		return request.getBody();
+	}
+
+	@Override
+	public int getResponseSize() {
+		return responseSize;
+	}
+
+	@Override
+	public long getStartTime() {
+		return startTime;
+	}
+
+	@Override
+	public long getSentTime() {
+		return sentTime;
+	}
+
+	@Override
+	public long getReceivedTime() {
+		return receivedTime;
+	}
+
+	@Override
+	public long getDeserializedTime() {
+		return deserializedTime;
+	}
+
+	@Override
+	public long getCompletedTime() {
+		return completedTime;
+	}
+
+}
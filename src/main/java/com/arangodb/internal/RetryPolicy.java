@@ -0,0 +1,180 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.internal;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Pattern;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocystream.Request;
+
+/**
+ * Decides whether a failed request is retried and how long to wait before.
+ *
+ * <p>
+ * Only requests which can safely be sent twice are retried: reads, deletes of a document, vertex or edge by its
+ * key and writes which are either conditional on a revision (<code>If-Match</code> header or
+ * <code>ignoreRevs=false</code>) or create a document with a given <code>_key</code>. Any other request, e.g. the
+ * delete of a collection, a cursor or an async job, is never retried.
+ * </p>
+ *
+ * <p>
+ * The requests of this allow list are only retried after a transport failure (an {@link IOException} or a
+ * {@link TimeoutException}) or a <code>503 Service Unavailable</code> response, never after any other error
+ * response. The delay grows exponentially with full jitter. A retry budget, which is filled by successful requests
+ * and drained by retries, stops retrying as soon as most requests fail, so that retries cannot amplify an overload.
+ * </p>
+ */
+public class RetryPolicy {
+
+	public static final long DEFAULT_BACKOFF = 50L;
+	public static final long DEFAULT_MAX_BACKOFF = 2000L;
+
+	private static final int SERVICE_UNAVAILABLE = 503;
+	private static final String PATH_API_DOCUMENT = "/_api/document/";
+	private static final Pattern IDEMPOTENT_DELETE = Pattern
+			.compile("/_api/(document/[^/]+/[^/]+|gharial/[^/]+/(vertex|edge)/[^/]+/[^/]+)");
+	private static final String IF_MATCH = "If-Match";
+	private static final String IGNORE_REVS = "ignoreRevs";
+	private static final String ONLYGET = "onlyget";
+	private static final String KEY = "_key";
+
+	private static final double MAX_TOKENS = 10;
+	private static final double TOKEN_RATIO = 0.1;
+
+	private final int maxRetries;
+	private final long backoff;
+	private final long maxBackoff;
+	private double tokens;
+
+	/**
+	 * @param maxRetries
+	 *            maximum number of retries per request
+	 * @param backoff
+	 *            delay in milliseconds before the first retry, or <code>null</code> for the default
+	 * @param maxBackoff
+	 *            maximum delay in milliseconds between two retries, or <code>null</code> for the default
+	 */
+	public RetryPolicy(final int maxRetries, final Long backoff, final Long maxBackoff) {
+		super();
+		this.maxRetries = maxRetries;
+		this.backoff = TimeUnit.MILLISECONDS.toNanos(backoff != null ? backoff : DEFAULT_BACKOFF);
+		this.maxBackoff = TimeUnit.MILLISECONDS.toNanos(maxBackoff != null ? maxBackoff : DEFAULT_MAX_BACKOFF);
+		tokens = MAX_TOKENS;
+	}
+
+	/**
+	 * @param request
+	 *            the failed request
+	 * @param failure
+	 *            the cause of the failure
+	 * @param attempt
+	 *            the number of retries already made for the request
+	 * @return the delay in nanoseconds before the request is retried or a negative value if it must not be retried
+	 */
+	public long retryDelay(final Request request, final Throwable failure, final int attempt) {
+		if (attempt >= maxRetries || !isRetryable(unwrap(failure)) || !isIdempotent(request) || !acquire()) {
+			return -1L;
+		}
+		final long max = Math.min(maxBackoff, backoff << Math.min(attempt, 30));
+		return ThreadLocalRandom.current().nextLong(max + 1);
+	}
+
+	/**
+	 * Refills the retry budget after a successful request.
+	 */
+	public synchronized void success() {
+		tokens = Math.min(MAX_TOKENS, tokens + TOKEN_RATIO);
+	}
+
+	private synchronized boolean acquire() {
+		tokens = Math.max(0, tokens - 1);
+		return tokens > MAX_TOKENS / 2;
+	}
+
+	private static Throwable unwrap(final Throwable failure) {
+		Throwable cause = failure;
+		while (cause instanceof CompletionException && cause.getCause() != null) {
+			cause = cause.getCause();
+		}
+		return cause;
+	}
+
+	private static boolean isRetryable(final Throwable failure) {
+		if (failure instanceof ArangoDBException) {
+			final Integer responseCode = ArangoDBException.class.cast(failure).getResponseCode();
+			if (responseCode != null) {
+				return responseCode == SERVICE_UNAVAILABLE;
+			}
+			// an error response without a body has no response code either, only a transport failure is retried
+			for (Throwable cause = failure.getCause(); cause != null; cause = cause.getCause()) {
+				if (isTransportFailure(cause)) {
+					return true;
+				}
+			}
+			return false;
+		}
+		return isTransportFailure(failure);
+	}
+
+	private static boolean isTransportFailure(final Throwable failure) {
+		return failure instanceof IOException || failure instanceof TimeoutException;
+	}
+
+	private static boolean isIdempotent(final Request request) {
+		switch (request.getRequestType()) {
+		case GET:
+		case HEAD:
+		case OPTIONS:
+			return true;
+		case DELETE:
+			return IDEMPOTENT_DELETE.matcher(request.getRequest()).matches();
+		case PUT:
+			return "true".equals(request.getQueryParam().get(ONLYGET)) || isConditional(request);
+		case PATCH:
+			return isConditional(request);
+		case POST:
+			return isInsertWithKey(request);
+		default:
+			return false;
+		}
+	}
+
+	private static boolean isConditional(final Request request) {
+		final Map<String, String> queryParam = request.getQueryParam();
+		return request.getHeaderParam().containsKey(IF_MATCH) || "false".equals(queryParam.get(IGNORE_REVS));
+	}
+
+	private static boolean isInsertWithKey(final Request request) {
+		// a repeated insert with a key fails with a conflict instead of creating a duplicate
+		final VPackSlice body = request.getBody();
+		return request.getRequest().startsWith(PATH_API_DOCUMENT) && body != null && body.isObject()
+				&& body.get(KEY).isString();
+	}
+
+}
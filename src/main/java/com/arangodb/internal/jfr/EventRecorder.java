@@ -0,0 +1,60 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.jfr;
+
+import com.arangodb.internal.net.HostDescription;
+import com.arangodb.monitoring.RequestContext;
+
+/**
+ * Records the events of the driver. The implementation based on the JDK Flight Recorder is compiled separately and
+ * loaded by {@link JfrEvents} only if the JVM provides the Flight Recorder, so that this interface doesn't depend on
+ * it.
+ *
+ * <p>
+ * A <code>begin</code> method returns <code>null</code> if the event is disabled, the matching <code>commit</code>
+ * method is only called with a non-null recording.
+ * </p>
+ */
+public interface EventRecorder {
+
+	Object beginRequest();
+
+	void commitRequest(Object recording, RequestContext context, Throwable failure);
+
+	Object beginMessage();
+
+	void commitMessage(
+		Object recording,
+		long messageId,
+		HostDescription host,
+		long bytesSent,
+		int chunksSent,
+		int responseSize);
+
+	Object beginConnection();
+
+	void commitConnection(Object recording, String action, HostDescription host, Throwable failure);
+
+	Object beginCursorBatch();
+
+	void commitCursorBatch(Object recording, String cursorId, HostDescription host, int count, boolean hasMore);
+
+}
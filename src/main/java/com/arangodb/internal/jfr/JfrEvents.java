@@ -0,0 +1,125 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.jfr;
+
+import com.arangodb.internal.net.HostDescription;
+import com.arangodb.monitoring.RequestContext;
+
+/**
+ * Emits the JDK Flight Recorder events of the driver. All events are disabled by default and have to be enabled in
+ * the settings of a recording, e.g. <code>com.arangodb.Request#enabled=true</code>.
+ *
+ * <p>
+ * The events are recorded by <code>com.arangodb.internal.jfr.event.JfrEventRecorder</code>, which is compiled
+ * separately with a JDK providing the Flight Recorder API and loaded reflectively, so that the driver itself still
+ * builds and runs on every Java 8 JVM.
+ * </p>
+ *
+ * <p>
+ * The <code>begin</code> methods return <code>null</code> without allocating anything if the event is disabled or
+ * if the JVM doesn't provide the Flight Recorder at all. The <code>commit</code> methods ignore <code>null</code>.
+ * </p>
+ */
+public final class JfrEvents {
+
+	private static final String RECORDER_CLASS = "com.arangodb.internal.jfr.event.JfrEventRecorder";
+	private static final EventRecorder RECORDER = createRecorder();
+
+	private JfrEvents() {
+		super();
+	}
+
+	private static EventRecorder createRecorder() {
+		try {
+			Class.forName("jdk.jfr.Event");
+			return (EventRecorder) Class.forName(RECORDER_CLASS).getDeclaredConstructor().newInstance();
+		} catch (final ReflectiveOperationException | LinkageError | ClassCastException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * @return <code>true</code> if the JVM provides the Flight Recorder and the driver was built with its events
+	 */
+	public static boolean isAvailable() {
+		return RECORDER != null;
+	}
+
+	public static Object beginRequest() {
+		return RECORDER != null ? RECORDER.beginRequest() : null;
+	}
+
+	public static void commitRequest(final Object recording, final RequestContext context, final Throwable failure) {
+		if (recording != null) {
+			RECORDER.commitRequest(recording, context, failure);
+		}
+	}
+
+	public static Object beginMessage() {
+		return RECORDER != null ? RECORDER.beginMessage() : null;
+	}
+
+	public static void commitMessage(
+		final Object recording,
+		final long messageId,
+		final HostDescription host,
+		final long bytesSent,
+		final int chunksSent,
+		final int responseSize) {
+		if (recording != null) {
+			RECORDER.commitMessage(recording, messageId, host, bytesSent, chunksSent, responseSize);
+		}
+	}
+
+	public static Object beginConnection() {
+		return RECORDER != null ? RECORDER.beginConnection() : null;
+	}
+
+	/**
+	 * @param action
+	 *            <code>open</code>, <code>authenticate</code> or <code>close</code>
+	 */
+	public static void commitConnection(
+		final Object recording,
+		final String action,
+		final HostDescription host,
+		final Throwable failure) {
+		if (recording != null) {
+			RECORDER.commitConnection(recording, action, host, failure);
+		}
+	}
+
+	public static Object beginCursorBatch() {
+		return RECORDER != null ? RECORDER.beginCursorBatch() : null;
+	}
+
+	public static void commitCursorBatch(
+		final Object recording,
+		final String cursorId,
+		final HostDescription host,
+		final int count,
+		final boolean hasMore) {
+		if (recording != null) {
+			RECORDER.commitCursorBatch(recording, cursorId, host, count, hasMore);
+		}
+	}
+
+}
@@ -0,0 +1,56 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.internal.jfr.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Fetch of the next batch of a cursor.
+ */
+@Name("com.arangodb.CursorBatch")
+@Label("Cursor Batch")
+@Description("Next batch of a cursor fetched by the ArangoDB driver")
+@Category("ArangoDB")
+@Enabled(false)
+@StackTrace(false)
+class CursorBatchEvent extends Event {
+
+	@Label("Cursor Id")
+	String cursorId;
+
+	@Label("Host")
+	String host;
+
+	@Label("Count")
+	@Description("Number of elements in the batch")
+	int count;
+
+	@Label("Has More")
+	boolean hasMore;
+
+}
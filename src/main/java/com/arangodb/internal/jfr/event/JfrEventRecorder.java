@@ -0,0 +1,169 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.jfr.event;
+
+import com.arangodb.internal.jfr.EventRecorder;
+import com.arangodb.internal.net.HostDescription;
+import com.arangodb.monitoring.RequestContext;
+
+import jdk.jfr.EventType;
+
+/**
+ * Records the events of the driver with the JDK Flight Recorder. This package is only compiled with a JDK which
+ * provides the Flight Recorder API and is loaded reflectively by {@link com.arangodb.internal.jfr.JfrEvents}.
+ */
+public class JfrEventRecorder implements EventRecorder {
+
+	private final EventType request;
+	private final EventType message;
+	private final EventType connection;
+	private final EventType cursorBatch;
+
+	public JfrEventRecorder() {
+		super();
+		request = EventType.getEventType(RequestEvent.class);
+		message = EventType.getEventType(MessageEvent.class);
+		connection = EventType.getEventType(ConnectionEvent.class);
+		cursorBatch = EventType.getEventType(CursorBatchEvent.class);
+	}
+
+	@Override
+	public Object beginRequest() {
+		if (!request.isEnabled()) {
+			return null;
+		}
+		final RequestEvent event = new RequestEvent();
+		event.begin();
+		return event;
+	}
+
+	@Override
+	public void commitRequest(final Object recording, final RequestContext context, final Throwable failure) {
+		final RequestEvent event = (RequestEvent) recording;
+		event.end();
+		if (event.shouldCommit()) {
+			event.operation = context.getOperation();
+			event.database = context.getDatabase();
+			event.collection = context.getCollection();
+			event.host = context.getHost();
+			event.requestSize = context.getRequestSize();
+			event.responseSize = context.getResponseSize();
+			event.sendTime = elapsed(context.getStartTime(), context.getSentTime());
+			event.responseTime = elapsed(context.getSentTime(), context.getReceivedTime());
+			event.deserializationTime = elapsed(context.getReceivedTime(), context.getDeserializedTime());
+			event.failure = failure != null ? failure.toString() : null;
+			event.commit();
+		}
+	}
+
+	@Override
+	public Object beginMessage() {
+		if (!message.isEnabled()) {
+			return null;
+		}
+		final MessageEvent event = new MessageEvent();
+		event.begin();
+		return event;
+	}
+
+	@Override
+	public void commitMessage(
+		final Object recording,
+		final long messageId,
+		final HostDescription host,
+		final long bytesSent,
+		final int chunksSent,
+		final int responseSize) {
+		final MessageEvent event = (MessageEvent) recording;
+		event.end();
+		if (event.shouldCommit()) {
+			event.messageId = messageId;
+			event.host = host(host);
+			event.bytesSent = bytesSent;
+			event.chunksSent = chunksSent;
+			event.responseSize = responseSize;
+			event.commit();
+		}
+	}
+
+	@Override
+	public Object beginConnection() {
+		if (!connection.isEnabled()) {
+			return null;
+		}
+		final ConnectionEvent event = new ConnectionEvent();
+		event.begin();
+		return event;
+	}
+
+	@Override
+	public void commitConnection(
+		final Object recording,
+		final String action,
+		final HostDescription host,
+		final Throwable failure) {
+		final ConnectionEvent event = (ConnectionEvent) recording;
+		event.end();
+		if (event.shouldCommit()) {
+			event.action = action;
+			event.host = host(host);
+			event.failure = failure != null ? failure.toString() : null;
+			event.commit();
+		}
+	}
+
+	@Override
+	public Object beginCursorBatch() {
+		if (!cursorBatch.isEnabled()) {
+			return null;
+		}
+		final CursorBatchEvent event = new CursorBatchEvent();
+		event.begin();
+		return event;
+	}
+
+	@Override
+	public void commitCursorBatch(
+		final Object recording,
+		final String cursorId,
+		final HostDescription host,
+		final int count,
+		final boolean hasMore) {
+		final CursorBatchEvent event = (CursorBatchEvent) recording;
+		event.end();
+		if (event.shouldCommit()) {
+			event.cursorId = cursorId;
+			event.host = host(host);
+			event.count = count;
+			event.hasMore = hasMore;
+			event.commit();
+		}
+	}
+
+	private static long elapsed(final long from, final long to) {
+		return from != 0L && to != 0L ? to - from : 0L;
+	}
+
+	private static String host(final HostDescription host) {
+		return host != null ? host.getHost() + ":" + host.getPort() : null;
+	}
+
+}
@@ -0,0 +1,82 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.internal.jfr.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Execution of a request by the driver, from the call until the returned future is completed.
+ */
+@Name("com.arangodb.Request")
+@Label("Request")
+@Description("Execution of a request by the ArangoDB driver")
+@Category("ArangoDB")
+@Enabled(false)
+@StackTrace(false)
+class RequestEvent extends Event {
+
+	@Label("Operation")
+	String operation;
+
+	@Label("Database")
+	String database;
+
+	@Label("Collection")
+	String collection;
+
+	@Label("Host")
+	String host;
+
+	@Label("Request Size")
+	@DataAmount
+	int requestSize;
+
+	@Label("Response Size")
+	@DataAmount
+	int responseSize;
+
+	@Label("Send Time")
+	@Description("Time until the request was written to a connection")
+	@Timespan
+	long sendTime;
+
+	@Label("Response Time")
+	@Description("Time between writing the request and receiving the response")
+	@Timespan
+	long responseTime;
+
+	@Label("Deserialization Time")
+	@Timespan
+	long deserializationTime;
+
+	@Label("Failure")
+	String failure;
+
+}
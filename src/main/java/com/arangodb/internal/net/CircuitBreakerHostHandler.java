@@ -0,0 +1,101 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.internal.net;
+
+import java.io.IOException;
+
+/**
+ * Decorates a {@link HostHandler} and skips hosts whose circuit is open in the given {@link HostCircuitBreaker}. If
+ * the circuits of all hosts are open, or the request is bound to a host with an open circuit, no host is returned so
+ * that the request fails fast instead of waiting for a socket timeout.
+ */
+public class CircuitBreakerHostHandler implements HostHandler {
+
+	private final HostHandler delegate;
+	private final HostCircuitBreaker circuitBreaker;
+	private Host current;
+
+	public CircuitBreakerHostHandler(final HostHandler delegate, final HostCircuitBreaker circuitBreaker) {
+		super();
+		this.delegate = delegate;
+		this.circuitBreaker = circuitBreaker;
+	}
+
+	@Override
+	public Host get(final HostHandle hostHandle, final AccessType accessType) {
+		final boolean bound = hostHandle != null && hostHandle.getHost() != null;
+		Host host = delegate.get(hostHandle, accessType);
+		boolean skipped = false;
+		while (host != null && !circuitBreaker.allowRequest(host.getDescription())) {
+			if (bound) {
+				host = null;
+				break;
+			}
+			skipped = true;
+			delegate.fail();
+			if (hostHandle != null) {
+				hostHandle.setHost(null);
+			}
+			host = delegate.get(hostHandle, accessType);
+		}
+		if (skipped && host != null) {
+			// skipped hosts did not fail, don't let them count against the next real failure
+			delegate.reset();
+		}
+		current = host;
+		return host;
+	}
+
+	@Override
+	public void success() {
+		delegate.success();
+	}
+
+	@Override
+	public void fail() {
+		if (current != null) {
+			circuitBreaker.failure(current.getDescription());
+		}
+		delegate.fail();
+	}
+
+	@Override
+	public void reset() {
+		delegate.reset();
+	}
+
+	@Override
+	public void confirm() {
+		delegate.confirm();
+	}
+
+	@Override
+	public void close() throws IOException {
+		delegate.close();
+	}
+
+	@Override
+	public void closeCurrentOnError() {
+		delegate.closeCurrentOnError();
+	}
+
+}
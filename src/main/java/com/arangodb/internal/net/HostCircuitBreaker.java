@@ -0,0 +1,161 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.internal.net;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps a circuit breaker for every host. A circuit opens after a number of consecutive transport failures or slow
+ * responses. While open, no requests are sent to the host. After the open duration a single probe request is let
+ * through (half-open), which either closes the circuit again or keeps it open.
+ */
+public class HostCircuitBreaker implements HostRequestListener {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(HostCircuitBreaker.class);
+
+	public static final int DEFAULT_FAILURE_THRESHOLD = 5;
+	public static final long DEFAULT_OPEN_DURATION = 10000L;
+
+	private final int failureThreshold;
+	private final long latencyThreshold;
+	private final long openDuration;
+	private final Map<HostDescription, Circuit> circuits;
+
+	/**
+	 * @param failureThreshold
+	 *            number of consecutive failures after which the circuit of a host opens
+	 * @param latencyThreshold
+	 *            response time in milliseconds above which a response counts as failure or <code>null</code> to
+	 *            ignore response times
+	 * @param openDuration
+	 *            time in milliseconds a circuit stays open before a probe request is let through
+	 */
+	public HostCircuitBreaker(final int failureThreshold, final Long latencyThreshold, final long openDuration) {
+		super();
+		this.failureThreshold = Math.max(1, failureThreshold);
+		this.latencyThreshold = latencyThreshold != null ? TimeUnit.MILLISECONDS.toNanos(latencyThreshold)
+				: Long.MAX_VALUE;
+		this.openDuration = TimeUnit.MILLISECONDS.toNanos(openDuration);
+		circuits = new ConcurrentHashMap<>();
+	}
+
+	@Override
+	public void requestSent(final HostDescription host) {
+	}
+
+	@Override
+	public void responseReceived(final HostDescription host, final long duration, final boolean failed) {
+		if (failed || duration > latencyThreshold) {
+			failure(host);
+		} else {
+			final Circuit circuit = circuits.get(host);
+			if (circuit != null) {
+				circuit.success();
+			}
+		}
+	}
+
+	/**
+	 * Records a failure of the given host, e.g. a failed connection attempt.
+	 *
+	 * @param host
+	 *            the host which failed
+	 */
+	public void failure(final HostDescription host) {
+		circuits.computeIfAbsent(host, h -> new Circuit()).failure(host);
+	}
+
+	/**
+	 * Forgets the circuit of the given host, e.g. after it was removed from the host list.
+	 *
+	 * @param host
+	 *            the removed host
+	 */
+	public void remove(final HostDescription host) {
+		circuits.remove(host);
+	}
+
+	/**
+	 * @param host
+	 *            the host a request should be sent to
+	 * @return <code>true</code> if a request may be sent to the given host
+	 */
+	public boolean allowRequest(final HostDescription host) {
+		final Circuit circuit = circuits.get(host);
+		return circuit == null || circuit.allowRequest();
+	}
+
+	private enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private class Circuit {
+
+		private State state;
+		private int failures;
+		private long openedAt;
+
+		private Circuit() {
+			super();
+			state = State.CLOSED;
+		}
+
+		private synchronized boolean allowRequest() {
+			switch (state) {
+			case CLOSED:
+				return true;
+			default:
+				// in half-open state a new probe is only let through if the last one never reported back
+				final long now = System.nanoTime();
+				if (now - openedAt >= openDuration) {
+					state = State.HALF_OPEN;
+					openedAt = now;
+					return true;
+				}
+				return false;
+			}
+		}
+
+		private synchronized void success() {
+			failures = 0;
+			state = State.CLOSED;
+		}
+
+		private synchronized void failure(final HostDescription host) {
+			failures++;
+			if (state == State.HALF_OPEN || (state == State.CLOSED && failures >= failureThreshold)) {
+				if (state == State.CLOSED) {
+					LOGGER.warn(String.format("Opening circuit of host %s after %s consecutive failures", host,
+						failures));
+				}
+				state = State.OPEN;
+				openedAt = System.nanoTime();
+			}
+		}
+	}
+
+}
@@ -0,0 +1,124 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.net;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps track of the load of every host as a peak exponentially weighted moving average (EWMA) of the response time
+ * and the number of requests in flight.
+ */
+public class HostLatencyTracker implements HostRequestListener {
+
+	private static final double DECAY_TIME = TimeUnit.SECONDS.toNanos(10);
+	private static final long FAILURE_PENALTY = TimeUnit.SECONDS.toNanos(1);
+
+	private final Map<HostDescription, HostLoad> loads;
+
+	public HostLatencyTracker() {
+		super();
+		loads = new ConcurrentHashMap<>();
+	}
+
+	@Override
+	public void requestSent(final HostDescription host) {
+		load(host).inFlight.incrementAndGet();
+	}
+
+	@Override
+	public void responseReceived(final HostDescription host, final long duration, final boolean failed) {
+		final HostLoad load = loads.get(host);
+		if (load != null) {
+			load.inFlight.decrementAndGet();
+			load.observe(failed ? Math.max(duration, FAILURE_PENALTY) : duration);
+		}
+	}
+
+	/**
+	 * Marks the given host as slow, e.g. after a failed connection attempt.
+	 *
+	 * @param host
+	 *            the host which failed
+	 */
+	public void penalize(final HostDescription host) {
+		load(host).observe(FAILURE_PENALTY);
+	}
+
+	/**
+	 * Forgets the load of the given host, e.g. after it was removed from the host list.
+	 *
+	 * @param host
+	 *            the removed host
+	 */
+	public void remove(final HostDescription host) {
+		loads.remove(host);
+	}
+
+	/**
+	 * @param host
+	 *            the host to calculate the cost for
+	 * @return the estimated cost of sending a request to the given host. Lower is better.
+	 */
+	public double cost(final HostDescription host) {
+		final HostLoad load = loads.get(host);
+		return load != null ? load.cost() : 0;
+	}
+
+	private HostLoad load(final HostDescription host) {
+		return loads.computeIfAbsent(host, h -> new HostLoad());
+	}
+
+	private static class HostLoad {
+
+		private final AtomicInteger inFlight;
+		private double ewma;
+		private long lastUpdate;
+		private boolean sampled;
+
+		private HostLoad() {
+			super();
+			inFlight = new AtomicInteger();
+		}
+
+		private synchronized void observe(final long duration) {
+			final long now = System.nanoTime();
+			if (!sampled || duration > ewma) {
+				// react immediately on a degraded host, recover slowly
+				ewma = duration;
+				sampled = true;
+			} else {
+				final double weight = Math.exp(-(now - lastUpdate) / DECAY_TIME);
+				ewma = ewma * weight + duration * (1.0 - weight);
+			}
+			lastUpdate = now;
+		}
+
+		private synchronized double cost() {
+			// decay while idle, so that a host which was slow once gets probed again
+			final double decayed = sampled ? ewma * Math.exp(-(System.nanoTime() - lastUpdate) / DECAY_TIME) : 0;
+			return (decayed + 1) * (Math.max(0, inFlight.get()) + 1);
+		}
+	}
+
+}
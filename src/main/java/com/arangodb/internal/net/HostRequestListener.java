@@ -0,0 +1,48 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.net;
+
+/**
+ * Gets notified by the communication layer about every request which is sent to a host and about its outcome.
+ *
+ * <p>
+ * Implementations are called from the connection threads and therefore have to be thread-safe and must not block.
+ * </p>
+ */
+public interface HostRequestListener {
+
+	/**
+	 * @param host
+	 *            the host the request is sent to
+	 */
+	void requestSent(HostDescription host);
+
+	/**
+	 * @param host
+	 *            the host the request was sent to
+	 * @param duration
+	 *            time in nanoseconds between sending the request and receiving the response
+	 * @param failed
+	 *            <code>true</code> if no response was received because of a transport failure
+	 */
+	void responseReceived(HostDescription host, long duration, boolean failed);
+
+}
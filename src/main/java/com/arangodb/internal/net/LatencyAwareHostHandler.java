@@ -0,0 +1,119 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.net;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Chooses two random hosts and picks the one with the lower load reported by a {@link HostLatencyTracker} (power of
+ * two choices).
+ */
+public class LatencyAwareHostHandler implements HostHandler {
+
+	private final HostResolver resolver;
+	private final HostLatencyTracker tracker;
+	private Host current;
+	private int fails;
+
+	public LatencyAwareHostHandler(final HostResolver resolver, final HostLatencyTracker tracker) {
+		super();
+		this.resolver = resolver;
+		this.tracker = tracker;
+		resolver.resolve(true, false);
+		fails = 0;
+	}
+
+	@Override
+	public Host get(final HostHandle hostHandle, final AccessType accessType) {
+		final List<Host> hosts = resolver.resolve(false, false);
+		final int size = hosts.size();
+		if (fails > size) {
+			return null;
+		}
+		final HostDescription hostDescription = hostHandle != null ? hostHandle.getHost() : null;
+		if (hostDescription != null) {
+			for (final Host host : hosts) {
+				if (hostDescription.equals(host.getDescription())) {
+					current = host;
+					return current;
+				}
+			}
+		}
+		current = choose(hosts);
+		if (hostHandle != null) {
+			hostHandle.setHost(current.getDescription());
+		}
+		return current;
+	}
+
+	private Host choose(final List<Host> hosts) {
+		final int size = hosts.size();
+		if (size == 1) {
+			return hosts.get(0);
+		}
+		final ThreadLocalRandom random = ThreadLocalRandom.current();
+		final int a = random.nextInt(size);
+		final int b = (a + 1 + random.nextInt(size - 1)) % size;
+		final Host first = hosts.get(a);
+		final Host second = hosts.get(b);
+		return tracker.cost(first.getDescription()) <= tracker.cost(second.getDescription()) ? first : second;
+	}
+
+	@Override
+	public void success() {
+		fails = 0;
+	}
+
+	@Override
+	public void fail() {
+		fails++;
+		if (current != null) {
+			tracker.penalize(current.getDescription());
+		}
+	}
+
+	@Override
+	public void reset() {
+		fails = 0;
+	}
+
+	@Override
+	public void confirm() {
+	}
+
+	@Override
+	public void close() throws IOException {
+		final List<Host> hosts = resolver.resolve(false, false);
+		for (final Host host : hosts) {
+			host.close();
+		}
+	}
+
+	@Override
+	public void closeCurrentOnError() {
+		if (current != null) {
+			current.closeOnError();
+		}
+	}
+
+}
@@ -0,0 +1,302 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.internal.net;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.arangodb.internal.util.HostUtils;
+
+/**
+ * Resolves hosts from a list of endpoints which is refreshed in the background. Resolving never blocks: it returns
+ * the latest snapshot of the host list, which is replaced atomically on every refresh.
+ *
+ * <p>
+ * Hosts which disappear from the list are drained: their connections are closed as soon as no more requests are in
+ * flight, at the latest after a drain timeout. A drained host which reappears in the list is kept together with its
+ * connections.
+ * </p>
+ */
+public class RefreshingHostResolver implements HostResolver, HostRequestListener {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(RefreshingHostResolver.class);
+
+	public static final long DEFAULT_REFRESH_INTERVAL = 60 * 60 * 1000;
+	public static final long DEFAULT_DRAIN_TIMEOUT = 60 * 1000;
+
+	private final Integer maxConnections;
+	private final ConnectionFactory connectionFactory;
+	private final long interval;
+	private final long drainTimeout;
+	private final Map<HostDescription, AtomicInteger> inFlight;
+	private final Map<HostDescription, Host> draining;
+	private final Map<HostDescription, ScheduledFuture<?>> drainTimeouts;
+	private final Collection<Consumer<HostDescription>> removalListeners;
+	private volatile List<Host> hosts;
+	private ScheduledExecutorService scheduler;
+	private ScheduledExecutorService ownScheduler;
+
+	/**
+	 * @param hosts
+	 *            the initial hosts
+	 * @param maxConnections
+	 *            maximum number of connections per host
+	 * @param connectionFactory
+	 *            factory for the connections of new hosts
+	 * @param interval
+	 *            refresh interval in milliseconds
+	 */
+	public RefreshingHostResolver(final List<Host> hosts, final Integer maxConnections,
+		final ConnectionFactory connectionFactory, final long interval) {
+		this(hosts, maxConnections, connectionFactory, interval, DEFAULT_DRAIN_TIMEOUT);
+	}
+
+	/**
+	 * @param hosts
+	 *            the initial hosts
+	 * @param maxConnections
+	 *            maximum number of connections per host
+	 * @param connectionFactory
+	 *            factory for the connections of new hosts
+	 * @param interval
+	 *            refresh interval in milliseconds
+	 * @param drainTimeout
+	 *            time in milliseconds after which a removed host is closed even if requests are still in flight
+	 */
+	public RefreshingHostResolver(final List<Host> hosts, final Integer maxConnections,
+		final ConnectionFactory connectionFactory, final long interval, final long drainTimeout) {
+		super();
+		this.hosts = Collections.unmodifiableList(new ArrayList<>(hosts));
+		this.maxConnections = maxConnections;
+		this.connectionFactory = connectionFactory;
+		this.interval = interval;
+		this.drainTimeout = drainTimeout;
+		inFlight = new ConcurrentHashMap<>();
+		draining = new ConcurrentHashMap<>();
+		drainTimeouts = new ConcurrentHashMap<>();
+		removalListeners = new CopyOnWriteArrayList<>();
+	}
+
+	@Override
+	public void init(final EndpointResolver resolver) {
+	}
+
+	@Override
+	public List<Host> resolve(final boolean initial, final boolean closeConnections) {
+		return hosts;
+	}
+
+	/**
+	 * Registers a listener which gets notified when a host which was removed from the host list is finally closed,
+	 * so that per host state can be dropped.
+	 *
+	 * @param listener
+	 *            listener to notify with the description of the removed host
+	 */
+	public void addRemovalListener(final Consumer<HostDescription> listener) {
+		removalListeners.add(listener);
+	}
+
+	/**
+	 * Starts refreshing the host list. The first refresh is executed immediately.
+	 *
+	 * @param endpoints
+	 *            supplies the current endpoints, e.g. by requesting <code>/_api/cluster/endpoints</code>
+	 * @param scheduler
+	 *            scheduler to execute the refresh and the drain timeouts on
+	 */
+	public synchronized void start(
+		final Supplier<CompletableFuture<Collection<String>>> endpoints,
+		final ScheduledExecutorService scheduler) {
+		this.scheduler = scheduler;
+		scheduler.scheduleWithFixedDelay(() -> {
+			try {
+				endpoints.get().whenComplete((result, ex) -> {
+					if (result != null) {
+						update(result);
+					} else if (ex != null) {
+						LOGGER.warn(String.format("Could not refresh host list: %s", ex.getMessage()));
+					}
+				});
+			} catch (final RuntimeException e) {
+				LOGGER.warn(String.format("Could not refresh host list: %s", e.getMessage()));
+			}
+		}, 0, interval, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Replaces the host list. Hosts which are still part of the new list are kept together with their connections.
+	 *
+	 * @param endpoints
+	 *            endpoints in the format <code>protocol://host:port</code>
+	 */
+	public synchronized void update(final Collection<String> endpoints) {
+		final Map<HostDescription, Host> current = new HashMap<>();
+		for (final Host host : hosts) {
+			current.put(host.getDescription(), host);
+		}
+		final List<Host> updated = new ArrayList<>();
+		final Set<HostDescription> seen = new HashSet<>();
+		for (final String endpoint : endpoints) {
+			final HostDescription description = parse(endpoint);
+			if (description == null || !seen.add(description)) {
+				continue;
+			}
+			Host host = current.remove(description);
+			if (host == null) {
+				host = draining.remove(description);
+				cancelDrainTimeout(description);
+			}
+			if (host == null) {
+				host = HostUtils.createHost(description, maxConnections, connectionFactory);
+			}
+			updated.add(host);
+		}
+		if (updated.isEmpty()) {
+			return;
+		}
+		hosts = Collections.unmodifiableList(updated);
+		for (final Host removed : current.values()) {
+			drain(removed);
+		}
+	}
+
+	private static HostDescription parse(final String endpoint) {
+		if (endpoint.matches(".*://.+:[0-9]+")) {
+			final String[] s = endpoint.replaceAll(".*://", "").split(":");
+			if (s.length == 2) {
+				return new HostDescription(s[0], Integer.valueOf(s[1]));
+			}
+		}
+		return null;
+	}
+
+	private void drain(final Host host) {
+		final HostDescription description = host.getDescription();
+		draining.put(description, host);
+		final AtomicInteger count = inFlight.get(description);
+		if (count == null || count.get() <= 0) {
+			close(description);
+		} else {
+			try {
+				drainTimeouts.put(description,
+					scheduler().schedule(() -> close(description), drainTimeout, TimeUnit.MILLISECONDS));
+			} catch (final RejectedExecutionException e) {
+				close(description);
+			}
+			if (!draining.containsKey(description)) {
+				// the last request completed in the meantime
+				cancelDrainTimeout(description);
+			}
+		}
+	}
+
+	/**
+	 * @return the scheduler given to {@link #start(Supplier, ScheduledExecutorService)} or an own one, if the host
+	 *         list is updated without being started
+	 */
+	private synchronized ScheduledExecutorService scheduler() {
+		if (scheduler != null) {
+			return scheduler;
+		}
+		if (ownScheduler == null) {
+			ownScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				final Thread thread = new Thread(runnable, "arangodb-async-drain");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return ownScheduler;
+	}
+
+	private void cancelDrainTimeout(final HostDescription description) {
+		final ScheduledFuture<?> timeout = drainTimeouts.remove(description);
+		if (timeout != null) {
+			timeout.cancel(false);
+		}
+	}
+
+	private void close(final HostDescription description) {
+		final Host host = draining.remove(description);
+		cancelDrainTimeout(description);
+		if (host != null) {
+			inFlight.remove(description);
+			try {
+				host.close();
+			} catch (final IOException e) {
+				LOGGER.error(e.getMessage(), e);
+			}
+			for (final Consumer<HostDescription> listener : removalListeners) {
+				listener.accept(description);
+			}
+		}
+	}
+
+	/**
+	 * Closes the connections of all hosts which are still drained.
+	 */
+	public void close() {
+		for (final HostDescription description : new ArrayList<>(draining.keySet())) {
+			close(description);
+		}
+		synchronized (this) {
+			if (ownScheduler != null) {
+				ownScheduler.shutdownNow();
+			}
+		}
+	}
+
+	@Override
+	public void requestSent(final HostDescription host) {
+		inFlight.computeIfAbsent(host, h -> new AtomicInteger()).incrementAndGet();
+	}
+
+	@Override
+	public void responseReceived(final HostDescription host, final long duration, final boolean failed) {
+		final AtomicInteger count = inFlight.get(host);
+		if (count != null && count.decrementAndGet() <= 0 && draining.containsKey(host)) {
+			close(host);
+		}
+	}
+
+}
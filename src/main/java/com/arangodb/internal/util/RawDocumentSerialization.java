@@ -0,0 +1,161 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.internal.util;
+
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.util.ArangoSerialization;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+
+/**
+ * Passes documents which are already serialized through without mapping them to objects: <code>byte[]</code> as
+ * VelocyPack and {@link ByteBuffer} as UTF-8 encoded JSON, in addition to {@link VPackSlice} and JSON
+ * {@link String} which are already handled by the underlying serialization. Collections of them are serialized as
+ * array. Everything else is delegated.
+ */
+public class RawDocumentSerialization implements ArangoSerialization {
+
+	private static final byte COMPACT_ARRAY = 0x13;
+
+	private final ArangoSerialization delegate;
+
+	public RawDocumentSerialization(final ArangoSerialization delegate) {
+		super();
+		this.delegate = delegate;
+	}
+
+	@Override
+	public VPackSlice serialize(final Object entity) throws ArangoDBException {
+		return serialize(entity, new Options());
+	}
+
+	@Override
+	public VPackSlice serialize(final Object entity, final Options options) throws ArangoDBException {
+		if (entity instanceof byte[]) {
+			return new VPackSlice((byte[]) entity);
+		}
+		if (entity instanceof ByteBuffer) {
+			return delegate.serialize(toJson((ByteBuffer) entity), options);
+		}
+		if (entity instanceof Iterable) {
+			final Iterator<?> iterator = Iterable.class.cast(entity).iterator();
+			if (iterator.hasNext()) {
+				final Object first = iterator.next();
+				if (first instanceof byte[] || first instanceof ByteBuffer) {
+					return serializeArray((Iterable<?>) entity, options);
+				}
+			}
+		}
+		return delegate.serialize(entity, options);
+	}
+
+	/**
+	 * Writes the documents as a compact array (no index table) into a single array of the exact size instead of
+	 * growing a {@link VPackBuilder} and moving its content on close.
+	 */
+	private VPackSlice serializeArray(final Iterable<?> entities, final Options options) {
+		final List<VPackSlice> elements = entities instanceof Collection
+				? new ArrayList<VPackSlice>(((Collection<?>) entities).size()) : new ArrayList<VPackSlice>();
+		long length = 0;
+		for (final Object entity : entities) {
+			final VPackSlice element = serialize(entity, options);
+			elements.add(element);
+			length += element.getByteSize();
+		}
+		final int count = elements.size();
+		final int countLength = variableLength(count);
+		long byteSize = 1 + length + countLength;
+		int byteSizeLength = variableLength(byteSize);
+		while (variableLength(byteSize + byteSizeLength) != byteSizeLength) {
+			byteSizeLength++;
+		}
+		byteSize += byteSizeLength;
+		if (byteSize > Integer.MAX_VALUE) {
+			throw new ArangoDBException("Documents exceed the maximum size of a request body");
+		}
+		final byte[] vpack = new byte[(int) byteSize];
+		vpack[0] = COMPACT_ARRAY;
+		int offset = writeVariable(vpack, 1, byteSize);
+		for (final VPackSlice element : elements) {
+			final int size = element.getByteSize();
+			System.arraycopy(element.getBuffer(), element.getStart(), vpack, offset, size);
+			offset += size;
+		}
+		writeVariableReversed(vpack, vpack.length, count);
+		return new VPackSlice(vpack);
+	}
+
+	private static int variableLength(final long value) {
+		int length = 1;
+		for (long v = value; v >= 0x80; v >>= 7) {
+			length++;
+		}
+		return length;
+	}
+
+	private static int writeVariable(final byte[] vpack, final int offset, final long value) {
+		int i = offset;
+		long v = value;
+		for (; v >= 0x80; v >>= 7) {
+			vpack[i++] = (byte) ((v & 0x7f) | 0x80);
+		}
+		vpack[i++] = (byte) v;
+		return i;
+	}
+
+	private static void writeVariableReversed(final byte[] vpack, final int end, final long value) {
+		int i = end;
+		long v = value;
+		for (; v >= 0x80; v >>= 7) {
+			vpack[--i] = (byte) ((v & 0x7f) | 0x80);
+		}
+		vpack[--i] = (byte) v;
+	}
+
+	private static String toJson(final ByteBuffer buffer) {
+		return StandardCharsets.UTF_8.decode(buffer.duplicate()).toString();
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> T deserialize(final VPackSlice vpack, final Type type) throws ArangoDBException {
+		if (type == byte[].class && !vpack.isBinary()) {
+			final int start = vpack.getStart();
+			return (T) Arrays.copyOfRange(vpack.getBuffer(), start, start + vpack.getByteSize());
+		}
+		if (type == ByteBuffer.class) {
+			final String json = delegate.deserialize(vpack, String.class);
+			return (T) ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8));
+		}
+		return delegate.deserialize(vpack, type);
+	}
+
+}
@@ -21,6 +21,10 @@
 package com.arangodb.internal.velocystream;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
@@ -31,10 +35,15 @@ import org.slf4j.LoggerFactory;
 
 import com.arangodb.ArangoDBException;
 import com.arangodb.entity.ErrorEntity;
+import com.arangodb.internal.jfr.JfrEvents;
+import com.arangodb.internal.net.HostDescription;
 import com.arangodb.internal.net.HostHandler;
+import com.arangodb.internal.net.HostRequestListener;
 import com.arangodb.internal.velocystream.internal.AuthenticationRequest;
+import com.arangodb.internal.velocystream.internal.Chunk;
 import com.arangodb.internal.velocystream.internal.Message;
 import com.arangodb.util.ArangoSerialization;
+import com.arangodb.velocypack.VPackSlice;
 import com.arangodb.velocypack.exception.VPackException;
 import com.arangodb.velocypack.exception.VPackParserException;
 import com.arangodb.velocystream.Request;
@@ -59,10 +68,12 @@ public class VstCommunicationAsync extends VstCommunication<CompletableFuture<Re
 		private SSLContext sslContext;
 		private Integer chunksize;
 		private Integer maxConnections;
+		private final Collection<HostRequestListener> hostRequestListeners;
 
 		public Builder(final HostHandler hostHandler) {
 			super();
 			this.hostHandler = hostHandler;
+			hostRequestListeners = new ArrayList<>();
 		}
 
 		public Builder timeout(final Integer timeout) {
@@ -105,24 +116,38 @@ public class VstCommunicationAsync extends VstCommunication<CompletableFuture<Re
 			return this;
 		}
 
+		public Builder hostRequestListener(final HostRequestListener hostRequestListener) {
+			hostRequestListeners.add(hostRequestListener);
+			return this;
+		}
+
 		public VstCommunicationAsync build(final ArangoSerialization util) {
 			return new VstCommunicationAsync(hostHandler, timeout, user, password, useSsl, sslContext, util, chunksize,
-					maxConnections, connectionTtl);
+					maxConnections, connectionTtl,
+					hostRequestListeners.toArray(new HostRequestListener[hostRequestListeners.size()]));
 		}
 	}
 
+	private final HostRequestListener[] hostRequestListeners;
+
 	private VstCommunicationAsync(final HostHandler hostHandler, final Integer timeout, final String user,
 		final String password, final Boolean useSsl, final SSLContext sslContext, final ArangoSerialization util,
-		final Integer chunksize, final Integer maxConnections, final Long connectionTtl) {
+		final Integer chunksize, final Integer maxConnections, final Long connectionTtl,
+		final HostRequestListener[] hostRequestListeners) {
 		super(timeout, user, password, useSsl, sslContext, util, chunksize, hostHandler);
+		this.hostRequestListeners = hostRequestListeners;
 	}
 
 	@Override
 	protected CompletableFuture<Response> execute(final Request request, final VstConnectionAsync connection) {
 		final CompletableFuture<Response> rfuture = new CompletableFuture<>();
+		final HostDescription host = connection.getHost();
+		final long start = System.nanoTime();
+		requestSent(host);
 		try {
 			final Message message = createMessage(request);
 			send(message, connection).whenComplete((m, ex) -> {
+				responseReceived(host, start, m == null);
 				if (m != null) {
 					try {
 						final Response response = createResponse(m);
@@ -132,7 +157,8 @@ public class VstCommunicationAsync extends VstCommunication<CompletableFuture<Re
 								rfuture.completeExceptionally(new ArangoDBException(errorEntity));
 							} else {
 								rfuture.completeExceptionally(new ArangoDBException(
-										String.format("Response Code: %s", response.getResponseCode())));
+										String.format("Response Code: %s", response.getResponseCode()),
+										response.getResponseCode()));
 							}
 						} else {
 							rfuture.complete(response);
@@ -149,12 +175,31 @@ public class VstCommunicationAsync extends VstCommunication<CompletableFuture<Re
 				}
 			});
 		} catch (final IOException | VPackException e) {
+			responseReceived(host, start, true);
 			LOGGER.error(e.getMessage(), e);
 			rfuture.completeExceptionally(e);
+		} catch (final ArangoDBException e) {
+			responseReceived(host, start, true);
+			throw e;
 		}
 		return rfuture;
 	}
 
+	private void requestSent(final HostDescription host) {
+		for (final HostRequestListener listener : hostRequestListeners) {
+			listener.requestSent(host);
+		}
+	}
+
+	private void responseReceived(final HostDescription host, final long start, final boolean failed) {
+		if (hostRequestListeners.length > 0) {
+			final long duration = System.nanoTime() - start;
+			for (final HostRequestListener listener : hostRequestListeners) {
+				listener.responseReceived(host, duration, failed);
+			}
+		}
+	}
+
 	private CompletableFuture<Message> send(final Message message, final VstConnectionAsync connection)
 			throws IOException {
 		if (LOGGER.isDebugEnabled()) {
@@ -164,17 +209,45 @@ public class VstCommunicationAsync extends VstCommunication<CompletableFuture<Re
 		return connection.write(message, buildChunks(message));
 	}
 
+	/**
+	 * The head and the body of a message are written straight from their buffers, starting at index 0. A body which
+	 * is only a view into a larger buffer (e.g. a document taken out of a query result) is therefore copied once.
+	 */
+	@Override
+	protected Message createMessage(final Request request) throws VPackParserException {
+		final VPackSlice body = request.getBody();
+		if (body != null && body.getStart() != 0) {
+			final int start = body.getStart();
+			request.setBody(new VPackSlice(Arrays.copyOfRange(body.getBuffer(), start, start + body.getByteSize())));
+		}
+		return super.createMessage(request);
+	}
+
+	@Override
+	protected Collection<Chunk> buildChunks(final Message message) {
+		final VPackSlice body = message.getBody();
+		final int size = message.getHead().getByteSize() + (body != null ? body.getByteSize() : 0);
+		if (size <= chunksize) {
+			return Collections.singletonList(new Chunk(message.getId(), 0, 1, -1L, 0, size));
+		}
+		return super.buildChunks(message);
+	}
+
 	@Override
 	protected void authenticate(final VstConnectionAsync connection) {
+		final Object recording = JfrEvents.beginConnection();
 		Response response = null;
 		try {
 			response = execute(new AuthenticationRequest(user, password != null ? password : "", ENCRYPTION_PLAIN),
 				connection).get();
 		} catch (final InterruptedException e) {
+			JfrEvents.commitConnection(recording, "authenticate", connection.getHost(), e);
 			throw new ArangoDBException(e);
 		} catch (final ExecutionException e) {
+			JfrEvents.commitConnection(recording, "authenticate", connection.getHost(), e.getCause());
 			throw new ArangoDBException(e);
 		}
+		JfrEvents.commitConnection(recording, "authenticate", connection.getHost(), null);
 		checkError(response);
 	}
 
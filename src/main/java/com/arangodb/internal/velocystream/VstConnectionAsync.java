@@ -20,18 +20,25 @@
 
 package com.arangodb.internal.velocystream;
 
+import java.io.IOException;
 import java.util.Collection;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.net.ssl.SSLContext;
 
+import com.arangodb.internal.ArangoDefaults;
+import com.arangodb.internal.jfr.JfrEvents;
 import com.arangodb.internal.net.HostDescription;
 import com.arangodb.internal.velocystream.internal.Chunk;
 import com.arangodb.internal.velocystream.internal.Message;
 import com.arangodb.internal.velocystream.internal.MessageStore;
 import com.arangodb.internal.velocystream.internal.VstConnection;
+import com.arangodb.monitoring.ConnectionStats;
 
 /**
  * @author Mark Vollmary
@@ -47,6 +54,7 @@ public class VstConnectionAsync extends VstConnection {
 		private Long ttl;
 		private Boolean useSsl;
 		private SSLContext sslContext;
+		private Collection<VstConnectionAsync> openConnections;
 
 		public Builder() {
 			super();
@@ -82,32 +90,234 @@ public class VstConnectionAsync extends VstConnection {
 			return this;
 		}
 
+		/**
+		 * @param openConnections
+		 *            collection the connection adds itself to while it is open
+		 */
+		public Builder openConnections(final Collection<VstConnectionAsync> openConnections) {
+			this.openConnections = openConnections;
+			return this;
+		}
+
 		public VstConnectionAsync build() {
-			return new VstConnectionAsync(host, timeout, ttl, useSsl, sslContext, messageStore);
+			return new VstConnectionAsync(host, timeout, ttl, useSsl, sslContext, messageStore, openConnections);
 		}
 	}
 
+	private final HostDescription host;
+	private final Long ttl;
+	private final Collection<VstConnectionAsync> openConnections;
+	private final AtomicInteger inFlight;
+	private final AtomicInteger queueDepth;
+	private final AtomicLong messagesSent;
+	private final AtomicLong bytesSent;
+	private final AtomicLong chunksSent;
+	private final AtomicLong bytesReceived;
+	private final AtomicLong chunksReceived;
+	private volatile long openTime;
+	private volatile int opened;
+
 	private VstConnectionAsync(final HostDescription host, final Integer timeout, final Long ttl, final Boolean useSsl,
-		final SSLContext sslContext, final MessageStore messageStore) {
+		final SSLContext sslContext, final MessageStore messageStore,
+		final Collection<VstConnectionAsync> openConnections) {
 		super(host, timeout, ttl, useSsl, sslContext, messageStore);
+		this.host = host;
+		this.ttl = ttl;
+		this.openConnections = openConnections;
+		inFlight = new AtomicInteger();
+		queueDepth = new AtomicInteger();
+		messagesSent = new AtomicLong();
+		bytesSent = new AtomicLong();
+		chunksSent = new AtomicLong();
+		bytesReceived = new AtomicLong();
+		chunksReceived = new AtomicLong();
+	}
+
+	public HostDescription getHost() {
+		return host;
+	}
+
+	@Override
+	public synchronized void open() throws IOException {
+		if (isOpen()) {
+			return;
+		}
+		final Object recording = JfrEvents.beginConnection();
+		try {
+			super.open();
+		} catch (final IOException | RuntimeException e) {
+			JfrEvents.commitConnection(recording, "open", host, e);
+			throw e;
+		}
+		JfrEvents.commitConnection(recording, "open", host, null);
+		openTime = System.nanoTime();
+		opened++;
+		if (openConnections != null) {
+			openConnections.add(this);
+		}
+	}
+
+	@Override
+	public synchronized void close() {
+		if (openConnections != null) {
+			openConnections.remove(this);
+		}
+		final Object recording = JfrEvents.beginConnection();
+		super.close();
+		JfrEvents.commitConnection(recording, "close", host, null);
 	}
 
-	public synchronized CompletableFuture<Message> write(final Message message, final Collection<Chunk> chunks) {
+	public CompletableFuture<Message> write(final Message message, final Collection<Chunk> chunks) {
+		queueDepth.incrementAndGet();
+		try {
+			return writeMessage(message, chunks);
+		} finally {
+			queueDepth.decrementAndGet();
+		}
+	}
+
+	private synchronized CompletableFuture<Message> writeMessage(
+		final Message message,
+		final Collection<Chunk> chunks) {
+		long bytes = 0;
+		for (final Chunk chunk : chunks) {
+			bytes += chunk.getContentLength() + (chunk.getMessageLength() > -1L ? ArangoDefaults.CHUNK_MAX_HEADER_SIZE
+					: ArangoDefaults.CHUNK_MIN_HEADER_SIZE);
+		}
+		final long messageBytes = bytes;
+		final Object recording = JfrEvents.beginMessage();
 		final CompletableFuture<Message> future = new CompletableFuture<>();
-		final FutureTask<Message> task = new FutureTask<>(new Callable<Message>() {
+		final FutureTask<Message> task = new FutureTask<Message>(new Callable<Message>() {
 			@Override
 			public Message call() throws Exception {
 				try {
-					future.complete(messageStore.get(message.getId()));
+					final Message response = messageStore.get(message.getId());
+					if (recording != null) {
+						JfrEvents.commitMessage(recording, message.getId(), host, messageBytes, chunks.size(),
+							response != null && response.getBody() != null ? response.getBody().getByteSize() : 0);
+					}
+					future.complete(response);
 				} catch (final Exception e) {
 					future.completeExceptionally(e);
 				}
 				return null;
 			}
-		});
+		}) {
+			@Override
+			protected void done() {
+				// also called when the message is cancelled on close
+				inFlight.decrementAndGet();
+			}
+		};
+		inFlight.incrementAndGet();
 		messageStore.storeMessage(message.getId(), task);
 		super.writeIntern(message, chunks);
+		messagesSent.incrementAndGet();
+		chunksSent.addAndGet(chunks.size());
+		bytesSent.addAndGet(bytes);
 		return future;
 	}
 
+	@Override
+	protected Chunk readChunk() throws IOException {
+		final Chunk chunk = super.readChunk();
+		chunksReceived.incrementAndGet();
+		return chunk;
+	}
+
+	@Override
+	protected void readBytesIntoBuffer(final byte[] buf, final int off, final int len) throws IOException {
+		super.readBytesIntoBuffer(buf, off, len);
+		bytesReceived.addAndGet(len);
+	}
+
+	public ConnectionStats getStats() {
+		return new Stats(this);
+	}
+
+	private static class Stats implements ConnectionStats {
+
+		private final String host;
+		private final int inFlight;
+		private final int queueDepth;
+		private final long messagesSent;
+		private final long bytesSent;
+		private final long bytesReceived;
+		private final long chunksSent;
+		private final long chunksReceived;
+		private final long age;
+		private final Long ttl;
+		private final int reconnects;
+
+		private Stats(final VstConnectionAsync connection) {
+			super();
+			host = connection.host.getHost() + ":" + connection.host.getPort();
+			inFlight = Math.max(0, connection.inFlight.get());
+			queueDepth = connection.queueDepth.get();
+			messagesSent = connection.messagesSent.get();
+			bytesSent = connection.bytesSent.get();
+			bytesReceived = connection.bytesReceived.get();
+			chunksSent = connection.chunksSent.get();
+			chunksReceived = connection.chunksReceived.get();
+			age = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - connection.openTime);
+			ttl = connection.ttl;
+			reconnects = Math.max(0, connection.opened - 1);
+		}
+
+		@Override
+		public String getHost() {
+			return host;
+		}
+
+		@Override
+		public int getInFlight() {
+			return inFlight;
+		}
+
+		@Override
+		public int getQueueDepth() {
+			return queueDepth;
+		}
+
+		@Override
+		public long getMessagesSent() {
+			return messagesSent;
+		}
+
+		@Override
+		public long getBytesSent() {
+			return bytesSent;
+		}
+
+		@Override
+		public long getBytesReceived() {
+			return bytesReceived;
+		}
+
+		@Override
+		public long getChunksSent() {
+			return chunksSent;
+		}
+
+		@Override
+		public long getChunksReceived() {
+			return chunksReceived;
+		}
+
+		@Override
+		public long getAge() {
+			return age;
+		}
+
+		@Override
+		public Long getTtl() {
+			return ttl;
+		}
+
+		@Override
+		public int getReconnects() {
+			return reconnects;
+		}
+	}
+
 }
@@ -20,12 +20,18 @@
 
 package com.arangodb.internal.velocystream;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 import javax.net.ssl.SSLContext;
 
 import com.arangodb.internal.net.Connection;
 import com.arangodb.internal.net.ConnectionFactory;
 import com.arangodb.internal.net.HostDescription;
 import com.arangodb.internal.velocystream.internal.MessageStore;
+import com.arangodb.monitoring.ConnectionStats;
 
 /**
  * @author Mark Vollmary
@@ -34,12 +40,14 @@ import com.arangodb.internal.velocystream.internal.MessageStore;
 public class VstConnectionFactoryAsync implements ConnectionFactory {
 
 	private final VstConnectionAsync.Builder builder;
+	private final Set<VstConnectionAsync> openConnections;
 
 	public VstConnectionFactoryAsync(final HostDescription host, final Integer timeout, final Long connectionTtl,
 		final Boolean useSsl, final SSLContext sslContext) {
 		super();
+		openConnections = ConcurrentHashMap.newKeySet();
 		builder = new VstConnectionAsync.Builder().timeout(timeout).ttl(connectionTtl).useSsl(useSsl)
-				.sslContext(sslContext);
+				.sslContext(sslContext).openConnections(openConnections);
 	}
 
 	@Override
@@ -47,4 +55,15 @@ public class VstConnectionFactoryAsync implements ConnectionFactory {
 		return builder.messageStore(new MessageStore()).host(host).build();
 	}
 
+	/**
+	 * @return statistics of all currently open connections created by this factory
+	 */
+	public Collection<ConnectionStats> getConnectionStats() {
+		final Collection<ConnectionStats> stats = new ArrayList<>(openConnections.size());
+		for (final VstConnectionAsync connection : openConnections) {
+			stats.add(connection.getStats());
+		}
+		return stats;
+	}
+
 }
@@ -0,0 +1,86 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.model;
+
+import com.arangodb.velocypack.annotations.Expose;
+
+/**
+ * {@link AqlQueryOptions} with options which are only evaluated by {@link com.arangodb.ArangoDatabaseAsync} and not
+ * sent to the server.
+ *
+ * <p>
+ * The setters inherited from {@link AqlQueryOptions} return {@link AqlQueryOptions}, so the options of this class
+ * have to be set first, e.g. <code>new AqlQueryOptionsAsync().prefetch(2).batchSize(1000)</code>.
+ * </p>
+ */
+public class AqlQueryOptionsAsync extends AqlQueryOptions {
+
+	private static final long serialVersionUID = 1L;
+
+	@Expose(serialize = false, deserialize = false)
+	private Integer prefetch;
+	@Expose(serialize = false, deserialize = false)
+	private Boolean parallelDeserialization;
+
+	public AqlQueryOptionsAsync() {
+		super();
+	}
+
+	public Integer getPrefetch() {
+		return prefetch;
+	}
+
+	/**
+	 * Requests the next batches of the cursor while the current one is consumed, so that the network round trips
+	 * overlap with the processing of the results. At most the given number of batches is held in memory in addition
+	 * to the current one.
+	 *
+	 * @param prefetch
+	 *            maximum number of batches requested ahead (default: 0, a batch is requested when it is needed)
+	 * @return options
+	 */
+	public AqlQueryOptionsAsync prefetch(final Integer prefetch) {
+		this.prefetch = prefetch;
+		return this;
+	}
+
+	public Boolean getParallelDeserialization() {
+		return parallelDeserialization;
+	}
+
+	/**
+	 * Deserializes every batch of the cursor as soon as it arrived, split into ranges which are deserialized in
+	 * parallel on the common {@link java.util.concurrent.ForkJoinPool}. The order of the results is kept. Together
+	 * with {@link #prefetch(Integer)} the next batches are fetched and deserialized while the current one is
+	 * consumed.
+	 *
+	 * @param parallelDeserialization
+	 *            whether or not to deserialize the batches in parallel (default: false, an element is deserialized
+	 *            when it is consumed)
+	 * @return options
+	 */
+	public AqlQueryOptionsAsync parallelDeserialization(final Boolean parallelDeserialization) {
+		this.parallelDeserialization = parallelDeserialization;
+		return this;
+	}
+
+}
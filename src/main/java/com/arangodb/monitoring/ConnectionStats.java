@@ -0,0 +1,71 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.monitoring;
+
+/**
+ * Snapshot of the statistics of a single open connection, as returned by
+ * {@link com.arangodb.ArangoDBAsync#getConnectionStats()}. The counters cover the whole lifetime of the connection
+ * object, including earlier sockets it was reconnected from.
+ */
+public interface ConnectionStats {
+
+	/**
+	 * @return host and port (<code>host:port</code>) of the connection
+	 */
+	String getHost();
+
+	/**
+	 * @return number of messages which were sent and not answered yet
+	 */
+	int getInFlight();
+
+	/**
+	 * @return number of threads waiting to write a message to the connection
+	 */
+	int getQueueDepth();
+
+	long getMessagesSent();
+
+	long getBytesSent();
+
+	long getBytesReceived();
+
+	long getChunksSent();
+
+	long getChunksReceived();
+
+	/**
+	 * @return time in milliseconds since the current socket was opened
+	 */
+	long getAge();
+
+	/**
+	 * @return time to live of a socket in milliseconds or <code>null</code> if it lives forever
+	 */
+	Long getTtl();
+
+	/**
+	 * @return number of times the socket was opened again after it was closed
+	 */
+	int getReconnects();
+
+}
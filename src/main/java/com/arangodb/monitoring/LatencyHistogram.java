@@ -0,0 +1,128 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.monitoring;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of non-negative values (e.g. nanoseconds) with a relative error of at most about 3%. Values
+ * are counted in buckets which are linear below 64 and cover 32 sub-buckets per power of two above.
+ */
+public class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 5;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int LINEAR = SUB_BUCKETS << 1;
+	private static final int BUCKETS = (Long.SIZE - 1 - SUB_BUCKET_BITS) * SUB_BUCKETS + LINEAR;
+
+	private final AtomicLongArray counts;
+	private final LongAdder count;
+	private final LongAdder sum;
+	private final LongAccumulator max;
+
+	public LatencyHistogram() {
+		super();
+		counts = new AtomicLongArray(BUCKETS);
+		count = new LongAdder();
+		sum = new LongAdder();
+		max = new LongAccumulator(Math::max, 0L);
+	}
+
+	/**
+	 * @param value
+	 *            the value to record, negative values are recorded as <code>0</code>
+	 */
+	public void record(final long value) {
+		final long v = Math.max(0L, value);
+		counts.incrementAndGet(index(v));
+		count.increment();
+		sum.add(v);
+		max.accumulate(v);
+	}
+
+	static int index(final long value) {
+		if (value < LINEAR) {
+			return (int) value;
+		}
+		final int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+		return (shift << SUB_BUCKET_BITS) + (int) (value >>> shift);
+	}
+
+	static long highestValue(final int index) {
+		if (index < LINEAR) {
+			return index;
+		}
+		final int shift = (index >>> SUB_BUCKET_BITS) - 1;
+		final long subBucket = index - (shift << SUB_BUCKET_BITS);
+		return ((subBucket + 1) << shift) - 1;
+	}
+
+	public long getCount() {
+		return count.sum();
+	}
+
+	public long getMax() {
+		return max.get();
+	}
+
+	public double getMean() {
+		final long n = count.sum();
+		return n > 0 ? (double) sum.sum() / n : 0.0;
+	}
+
+	/**
+	 * @param percentile
+	 *            percentile between <code>0</code> and <code>100</code>
+	 * @return the highest value which is equivalent to the value at the given percentile or <code>0</code> if
+	 *         nothing was recorded
+	 */
+	public long getValueAtPercentile(final double percentile) {
+		final long n = count.sum();
+		if (n == 0) {
+			return 0L;
+		}
+		final long target = Math.max(1L, (long) Math.ceil(Math.min(100.0, percentile) / 100.0 * n));
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += counts.get(i);
+			if (seen >= target) {
+				return Math.min(highestValue(i), getMax());
+			}
+		}
+		return getMax();
+	}
+
+	/**
+	 * Removes all recorded values. Values recorded concurrently may get lost.
+	 */
+	public void reset() {
+		for (int i = 0; i < BUCKETS; i++) {
+			counts.set(i, 0L);
+		}
+		count.reset();
+		sum.reset();
+		max.reset();
+	}
+
+}
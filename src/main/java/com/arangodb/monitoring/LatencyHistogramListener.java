@@ -0,0 +1,67 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.monitoring;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link RequestListener} which records the latency of every request (from start to completion, in nanoseconds) in a
+ * {@link LatencyHistogram} per operation.
+ */
+public class LatencyHistogramListener implements RequestListener {
+
+	private final Map<String, LatencyHistogram> histograms;
+
+	public LatencyHistogramListener() {
+		super();
+		histograms = new ConcurrentHashMap<>();
+	}
+
+	@Override
+	public void requestCompleted(final RequestContext context, final Throwable failure) {
+		final String operation = context.getOperation();
+		LatencyHistogram histogram = histograms.get(operation);
+		if (histogram == null) {
+			histogram = histograms.computeIfAbsent(operation, o -> new LatencyHistogram());
+		}
+		histogram.record(context.getCompletedTime() - context.getStartTime());
+	}
+
+	/**
+	 * @param operation
+	 *            the operation as given by {@link RequestContext#getOperation()}
+	 * @return the histogram of the operation or <code>null</code> if no request of it was completed yet
+	 */
+	public LatencyHistogram getHistogram(final String operation) {
+		return histograms.get(operation);
+	}
+
+	/**
+	 * @return the histograms by operation
+	 */
+	public Map<String, LatencyHistogram> getHistograms() {
+		return Collections.unmodifiableMap(histograms);
+	}
+
+}
@@ -0,0 +1,84 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.monitoring;
+
+import com.arangodb.velocypack.VPackSlice;
+
+/**
+ * Describes a request for a {@link RequestListener}. Times are taken from {@link System#nanoTime()} and are
+ * <code>0</code> as long as the stage was not reached.
+ */
+public interface RequestContext {
+
+	/**
+	 * @return the type and the resource of the request, e.g. <code>GET /_api/document</code>
+	 */
+	String getOperation();
+
+	/**
+	 * @return the encoded path of the request, e.g. <code>/_api/document/users/123</code>
+	 */
+	String getPath();
+
+	/**
+	 * @return the name of the database
+	 */
+	String getDatabase();
+
+	/**
+	 * @return the name of the collection the request addresses or <code>null</code> if it doesn't address a
+	 *         collection
+	 */
+	String getCollection();
+
+	/**
+	 * @return the host and port (<code>host:port</code>) the request was sent to or <code>null</code> if it was not
+	 *         sent yet
+	 */
+	String getHost();
+
+	/**
+	 * @return the size of the request body in bytes
+	 */
+	int getRequestSize();
+
+	/**
+	 * @return the request body or <code>null</code> if the request has none
+	 */
+	VPackSlice getRequestBody();
+
+	/**
+	 * @return the size of the response body in bytes or <code>-1</code> if no response was received yet
+	 */
+	int getResponseSize();
+
+	long getStartTime();
+
+	long getSentTime();
+
+	long getReceivedTime();
+
+	long getDeserializedTime();
+
+	long getCompletedTime();
+
+}
@@ -0,0 +1,68 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.monitoring;
+
+/**
+ * Gets notified about the stages of every request executed by {@link com.arangodb.ArangoDBAsync}. All methods are
+ * called with the same {@link RequestContext} for one request.
+ *
+ * <p>
+ * Implementations are called from the calling, connection and deserialization threads and therefore have to be
+ * thread-safe. They must neither block nor throw.
+ * </p>
+ */
+public interface RequestListener {
+
+	/**
+	 * Called before the request is sent.
+	 */
+	default void requestStarted(final RequestContext context) {
+	}
+
+	/**
+	 * Called after the request was written to a connection. Called again for every retry.
+	 */
+	default void requestSent(final RequestContext context) {
+	}
+
+	/**
+	 * Called after the response was received, before it is deserialized.
+	 */
+	default void responseReceived(final RequestContext context) {
+	}
+
+	/**
+	 * Called after the response was deserialized successfully.
+	 */
+	default void responseDeserialized(final RequestContext context) {
+	}
+
+	/**
+	 * Called after the returned {@link java.util.concurrent.CompletableFuture} was completed.
+	 *
+	 * @param failure
+	 *            the exception the request failed with or <code>null</code> if it succeeded
+	 */
+	default void requestCompleted(final RequestContext context, final Throwable failure) {
+	}
+
+}
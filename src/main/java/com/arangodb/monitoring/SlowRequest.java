@@ -0,0 +1,156 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.monitoring;
+
+import java.util.Collection;
+
+/**
+ * A request reported by a {@link SlowRequestDetector}. All times are in nanoseconds.
+ */
+public class SlowRequest {
+
+	private final String operation;
+	private final String path;
+	private final String database;
+	private final String host;
+	private final String query;
+	private final Collection<String> bindVarKeys;
+	private final long duration;
+	private final long queueTime;
+	private final long serverTime;
+	private final int responseSize;
+	private final Throwable failure;
+	private final long suppressed;
+
+	SlowRequest(final RequestContext context, final String query, final Collection<String> bindVarKeys,
+		final Throwable failure, final long suppressed) {
+		super();
+		operation = context.getOperation();
+		path = context.getPath();
+		database = context.getDatabase();
+		host = context.getHost();
+		this.query = query;
+		this.bindVarKeys = bindVarKeys;
+		duration = context.getCompletedTime() - context.getStartTime();
+		queueTime = context.getSentTime() != 0L ? context.getSentTime() - context.getStartTime() : duration;
+		serverTime = context.getReceivedTime() != 0L ? context.getReceivedTime() - context.getSentTime() : -1L;
+		responseSize = context.getResponseSize();
+		this.failure = failure;
+		this.suppressed = suppressed;
+	}
+
+	/**
+	 * @return the type and the resource of the request, e.g. <code>POST /_api/cursor</code>
+	 */
+	public String getOperation() {
+		return operation;
+	}
+
+	/**
+	 * @return the encoded path of the request
+	 */
+	public String getPath() {
+		return path;
+	}
+
+	/**
+	 * @return the name of the database
+	 */
+	public String getDatabase() {
+		return database;
+	}
+
+	/**
+	 * @return the host and port (<code>host:port</code>) the request was sent to or <code>null</code> if it was never
+	 *         sent
+	 */
+	public String getHost() {
+		return host;
+	}
+
+	/**
+	 * @return the AQL query string or <code>null</code> if the request was no query
+	 */
+	public String getQuery() {
+		return query;
+	}
+
+	/**
+	 * @return the names of the bind parameters of the query. The values are never captured.
+	 */
+	public Collection<String> getBindVarKeys() {
+		return bindVarKeys;
+	}
+
+	/**
+	 * @return the time from the start to the completion of the request
+	 */
+	public long getDuration() {
+		return duration;
+	}
+
+	/**
+	 * @return the time the request spent in the driver before it was written to a connection, including retries
+	 */
+	public long getQueueTime() {
+		return queueTime;
+	}
+
+	/**
+	 * @return the time between writing the request and receiving the response (network and server) or
+	 *         <code>-1</code> if no response was received
+	 */
+	public long getServerTime() {
+		return serverTime;
+	}
+
+	/**
+	 * @return the size of the response body in bytes or <code>-1</code> if no response was received
+	 */
+	public int getResponseSize() {
+		return responseSize;
+	}
+
+	/**
+	 * @return the exception the request failed with or <code>null</code> if it succeeded
+	 */
+	public Throwable getFailure() {
+		return failure;
+	}
+
+	/**
+	 * @return the number of slow requests which were not reported since the previous report because of the rate
+	 *         limit
+	 */
+	public long getSuppressed() {
+		return suppressed;
+	}
+
+	@Override
+	public String toString() {
+		return "SlowRequest [operation=" + operation + ", database=" + database + ", host=" + host + ", query="
+				+ query + ", bindVarKeys=" + bindVarKeys + ", duration=" + duration + ", queueTime=" + queueTime
+				+ ", serverTime=" + serverTime + ", responseSize=" + responseSize + ", suppressed=" + suppressed
+				+ "]";
+	}
+
+}
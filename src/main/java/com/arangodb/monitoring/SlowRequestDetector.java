@@ -0,0 +1,119 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.monitoring;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.arangodb.velocypack.VPackSlice;
+
+/**
+ * {@link RequestListener} which reports every request taking longer than a threshold to a
+ * {@link SlowRequestListener}.
+ *
+ * <p>
+ * Fast requests only cost a subtraction. The reports are limited to a number per second, requests beyond that are
+ * only counted and the count is passed with the next report (see {@link SlowRequest#getSuppressed()}). The query
+ * string and the bind parameter names are only extracted from the request body of a reported request.
+ * </p>
+ */
+public class SlowRequestDetector implements RequestListener {
+
+	public static final int DEFAULT_REPORTS_PER_SECOND = 10;
+
+	private static final long WINDOW = TimeUnit.SECONDS.toNanos(1);
+	private static final String QUERY = "query";
+	private static final String BIND_VARS = "bindVars";
+
+	private final long threshold;
+	private final int reportsPerSecond;
+	private final SlowRequestListener listener;
+	private final AtomicLong windowStart;
+	private final AtomicInteger reports;
+	private final AtomicLong suppressed;
+
+	/**
+	 * @param threshold
+	 *            duration in milliseconds above which a request is reported
+	 * @param reportsPerSecond
+	 *            maximum number of reports per second
+	 * @param listener
+	 *            the listener to report to
+	 */
+	public SlowRequestDetector(final long threshold, final int reportsPerSecond, final SlowRequestListener listener) {
+		super();
+		this.threshold = TimeUnit.MILLISECONDS.toNanos(threshold);
+		this.reportsPerSecond = reportsPerSecond;
+		this.listener = listener;
+		windowStart = new AtomicLong(System.nanoTime());
+		reports = new AtomicInteger();
+		suppressed = new AtomicLong();
+	}
+
+	@Override
+	public void requestCompleted(final RequestContext context, final Throwable failure) {
+		if (context.getCompletedTime() - context.getStartTime() <= threshold) {
+			return;
+		}
+		if (!acquire(context.getCompletedTime())) {
+			suppressed.incrementAndGet();
+			return;
+		}
+		final VPackSlice body = context.getRequestBody();
+		String query = null;
+		Collection<String> bindVarKeys = Collections.emptyList();
+		if (body != null && body.isObject()) {
+			final VPackSlice queryString = body.get(QUERY);
+			if (queryString.isString()) {
+				query = queryString.getAsString();
+				bindVarKeys = keys(body.get(BIND_VARS));
+			}
+		}
+		listener.slowRequest(new SlowRequest(context, query, bindVarKeys, failure, suppressed.getAndSet(0)));
+	}
+
+	private boolean acquire(final long now) {
+		final long start = windowStart.get();
+		if (now - start >= WINDOW && windowStart.compareAndSet(start, now)) {
+			reports.set(0);
+		}
+		return reports.incrementAndGet() <= reportsPerSecond;
+	}
+
+	private static Collection<String> keys(final VPackSlice bindVars) {
+		if (!bindVars.isObject()) {
+			return Collections.emptyList();
+		}
+		final Collection<String> keys = new ArrayList<>(bindVars.getLength());
+		for (final Iterator<Entry<String, VPackSlice>> iterator = bindVars.objectIterator(); iterator.hasNext();) {
+			keys.add(iterator.next().getKey());
+		}
+		return keys;
+	}
+
+}
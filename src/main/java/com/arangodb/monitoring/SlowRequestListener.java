@@ -0,0 +1,41 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.monitoring;
+
+/**
+ * Gets notified by a {@link SlowRequestDetector} about requests which took longer than its threshold.
+ *
+ * <p>
+ * Implementations are called from the connection and deserialization threads and therefore have to be thread-safe.
+ * They must neither block nor throw.
+ * </p>
+ */
+@FunctionalInterface
+public interface SlowRequestListener {
+
+	/**
+	 * @param request
+	 *            the slow request
+	 */
+	void slowRequest(SlowRequest request);
+
+}
@@ -0,0 +1,55 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.processor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an entity class for which a {@link com.arangodb.velocypack.VPackSerializer} and a
+ * {@link com.arangodb.velocypack.VPackDeserializer} are generated at compile time by {@link VPackProcessor}. The
+ * generated {@link GeneratedVPackModule} is registered automatically by {@link com.arangodb.ArangoDBAsync.Builder}
+ * and replaces the reflection based mapping of the class.
+ * 
+ * <p>
+ * All non-static, non-transient fields of the class and its super classes are mapped, respecting
+ * {@link com.arangodb.velocypack.annotations.SerializedName}, {@link com.arangodb.velocypack.annotations.Expose} and
+ * {@link com.arangodb.entity.DocumentField}. Private fields need a getter and a setter. The class needs a non-private
+ * no-argument constructor.
+ * </p>
+ * 
+ * <p>
+ * The processor isn't registered as a service, so that it doesn't run in every build which has the driver on its
+ * class path. It has to be enabled explicitly, e.g. with <code>javac -processor
+ * com.arangodb.processor.VPackProcessor</code> or in the <code>annotationProcessors</code> of the
+ * maven-compiler-plugin.
+ * </p>
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface GenerateVPack {
+
+}
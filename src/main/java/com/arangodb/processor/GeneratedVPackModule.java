@@ -0,0 +1,33 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.processor;
+
+import com.arangodb.velocypack.VPackModule;
+
+/**
+ * A {@link VPackModule} generated by {@link VPackProcessor}. Generated modules are listed in
+ * <code>META-INF/services/com.arangodb.processor.GeneratedVPackModule</code> and loaded through
+ * {@link java.util.ServiceLoader}.
+ */
+public interface GeneratedVPackModule extends VPackModule {
+
+}
@@ -0,0 +1,415 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.FilerException;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+import com.arangodb.entity.DocumentField;
+import com.arangodb.velocypack.annotations.Expose;
+import com.arangodb.velocypack.annotations.SerializedName;
+
+/**
+ * Generates a {@link GeneratedVPackModule} with a serializer and a deserializer for every class annotated with
+ * {@link GenerateVPack}.
+ */
+@SupportedAnnotationTypes("com.arangodb.processor.GenerateVPack")
+public class VPackProcessor extends AbstractProcessor {
+
+	private static final String MODULE_SUFFIX = "VPackModule";
+	private static final String SERVICES = "META-INF/services/" + GeneratedVPackModule.class.getName();
+
+	private final List<String> modules = new ArrayList<>();
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+		for (final Element element : roundEnv.getElementsAnnotatedWith(GenerateVPack.class)) {
+			if (element.getKind() != ElementKind.CLASS || element.getModifiers().contains(Modifier.ABSTRACT)) {
+				error(element, "@GenerateVPack is only supported on non-abstract classes");
+				continue;
+			}
+			final TypeElement type = (TypeElement) element;
+			try {
+				final String module = generate(type);
+				if (module != null) {
+					modules.add(module);
+				}
+			} catch (final IOException e) {
+				error(type, "Could not generate VelocyPack module: " + e.getMessage());
+			}
+		}
+		if (roundEnv.processingOver() && !modules.isEmpty()) {
+			writeServices();
+		}
+		return true;
+	}
+
+	private String generate(final TypeElement type) throws IOException {
+		if (type.getNestingKind().isNested() && !type.getModifiers().contains(Modifier.STATIC)) {
+			error(type, "@GenerateVPack is not supported on inner classes");
+			return null;
+		}
+		final String packageName = packageOf(type).getQualifiedName().toString();
+		if (!hasConstructor(type, packageName)) {
+			error(type, "@GenerateVPack requires a non-private no-argument constructor");
+			return null;
+		}
+		final List<Property> properties = properties(type, packageName);
+		if (properties == null) {
+			return null;
+		}
+		final String entity = processingEnv.getTypeUtils().erasure(type.asType()).toString();
+		final String simpleName = entity.substring(packageName.isEmpty() ? 0 : packageName.length() + 1)
+				.replace('.', '_') + MODULE_SUFFIX;
+		final String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+		final JavaFileObject source;
+		try {
+			source = processingEnv.getFiler().createSourceFile(qualifiedName, type);
+		} catch (final FilerException e) {
+			// an incremental build compiles the module generated by the previous build as one of its sources
+			if (processingEnv.getElementUtils().getTypeElement(qualifiedName) != null) {
+				return qualifiedName;
+			}
+			throw e;
+		}
+		try (final PrintWriter out = new PrintWriter(source.openWriter())) {
+			if (!packageName.isEmpty()) {
+				out.println("package " + packageName + ";");
+				out.println();
+			}
+			out.println("/**");
+			out.println(" * Generated by {@link " + VPackProcessor.class.getName() + "} for {@link " + entity + "}.");
+			out.println(" */");
+			out.println("public final class " + simpleName + " implements " + GeneratedVPackModule.class.getName()
+					+ " {");
+			out.println();
+			for (int i = 0; i < properties.size(); i++) {
+				final Property property = properties.get(i);
+				if (property.deserialize && isParameterized(property.type)) {
+					out.println("\tprivate static final java.lang.reflect.Type TYPE_" + i + " = fieldType("
+							+ property.declaringClass + ".class, \"" + property.fieldName + "\");");
+				}
+			}
+			out.println();
+			out.println("\tprivate static java.lang.reflect.Type fieldType(final Class<?> type, final String name) {");
+			out.println("\t\ttry {");
+			out.println("\t\t\treturn type.getDeclaredField(name).getGenericType();");
+			out.println("\t\t} catch (final NoSuchFieldException e) {");
+			out.println("\t\t\tthrow new IllegalStateException(e);");
+			out.println("\t\t}");
+			out.println("\t}");
+			out.println();
+			out.println("\t@Override");
+			out.println("\tpublic <C extends com.arangodb.velocypack.VPackSetupContext<C>> void setup(final C context) {");
+			out.println("\t\tcontext.registerSerializer(" + entity + ".class, SERIALIZER);");
+			out.println("\t\tcontext.registerDeserializer(" + entity + ".class, DESERIALIZER);");
+			out.println("\t}");
+			out.println();
+			writeSerializer(out, entity, properties);
+			out.println();
+			writeDeserializer(out, entity, properties);
+			out.println();
+			out.println("}");
+		}
+		return qualifiedName;
+	}
+
+	private void writeSerializer(final PrintWriter out, final String entity, final List<Property> properties) {
+		out.println("\tprivate static final com.arangodb.velocypack.VPackSerializer<" + entity
+				+ "> SERIALIZER = new com.arangodb.velocypack.VPackSerializer<" + entity + ">() {");
+		out.println("\t\t@Override");
+		out.println("\t\tpublic void serialize(");
+		out.println("\t\t\tfinal com.arangodb.velocypack.VPackBuilder builder,");
+		out.println("\t\t\tfinal String attribute,");
+		out.println("\t\t\tfinal " + entity + " value,");
+		out.println("\t\t\tfinal com.arangodb.velocypack.VPackSerializationContext context)");
+		out.println("\t\t\t\tthrows com.arangodb.velocypack.exception.VPackException {");
+		out.println("\t\t\tbuilder.add(attribute, com.arangodb.velocypack.ValueType.OBJECT);");
+		for (final Property property : properties) {
+			if (!property.serialize) {
+				continue;
+			}
+			final String name = literal(property.name);
+			if (property.type.getKind().isPrimitive()) {
+				out.println("\t\t\tbuilder.add(" + name + ", value." + property.read + ");");
+			} else if (isString(property.type)) {
+				out.println("\t\t\t{");
+				out.println("\t\t\t\tfinal String v = value." + property.read + ";");
+				out.println("\t\t\t\tif (v != null) {");
+				out.println("\t\t\t\t\tbuilder.add(" + name + ", v);");
+				out.println("\t\t\t\t} else {");
+				out.println("\t\t\t\t\tcontext.serialize(builder, " + name + ", null);");
+				out.println("\t\t\t\t}");
+				out.println("\t\t\t}");
+			} else {
+				out.println("\t\t\tcontext.serialize(builder, " + name + ", value." + property.read + ");");
+			}
+		}
+		out.println("\t\t\tbuilder.close();");
+		out.println("\t\t}");
+		out.println("\t};");
+	}
+
+	private void writeDeserializer(final PrintWriter out, final String entity, final List<Property> properties) {
+		out.println("\tprivate static final com.arangodb.velocypack.VPackDeserializer<" + entity
+				+ "> DESERIALIZER = new com.arangodb.velocypack.VPackDeserializer<" + entity + ">() {");
+		out.println("\t\t@SuppressWarnings({ \"unchecked\", \"rawtypes\" })");
+		out.println("\t\t@Override");
+		out.println("\t\tpublic " + entity + " deserialize(");
+		out.println("\t\t\tfinal com.arangodb.velocypack.VPackSlice parent,");
+		out.println("\t\t\tfinal com.arangodb.velocypack.VPackSlice vpack,");
+		out.println("\t\t\tfinal com.arangodb.velocypack.VPackDeserializationContext context)");
+		out.println("\t\t\t\tthrows com.arangodb.velocypack.exception.VPackException {");
+		out.println("\t\t\tfinal " + entity + " value = new " + entity + "();");
+		out.println("\t\t\tfor (final java.util.Iterator<java.util.Map.Entry<String, com.arangodb.velocypack.VPackSlice>> "
+				+ "iterator = vpack.objectIterator(); iterator.hasNext();) {");
+		out.println("\t\t\t\tfinal java.util.Map.Entry<String, com.arangodb.velocypack.VPackSlice> next = iterator.next();");
+		out.println("\t\t\t\tfinal com.arangodb.velocypack.VPackSlice slice = next.getValue();");
+		out.println("\t\t\t\tswitch (next.getKey()) {");
+		for (int i = 0; i < properties.size(); i++) {
+			final Property property = properties.get(i);
+			if (!property.deserialize) {
+				continue;
+			}
+			out.println("\t\t\t\tcase " + literal(property.name) + ":");
+			if (property.type.getKind().isPrimitive()) {
+				out.println("\t\t\t\t\tif (!slice.isNull()) {");
+				out.println("\t\t\t\t\t\tvalue." + String.format(property.write, "slice.getAs"
+						+ capitalize(property.type.getKind().name().toLowerCase()) + "()") + ";");
+				out.println("\t\t\t\t\t}");
+			} else if (isString(property.type)) {
+				out.println("\t\t\t\t\tvalue." + String.format(property.write,
+					"slice.isString() ? slice.getAsString() : (String) context.deserialize(slice, String.class)")
+						+ ";");
+			} else {
+				final String erasure = processingEnv.getTypeUtils().erasure(property.type).toString();
+				final String target = isParameterized(property.type) ? "TYPE_" + i : erasure + ".class";
+				out.println("\t\t\t\t\tvalue." + String.format(property.write,
+					"(" + erasure + ") context.deserialize(slice, " + target + ")") + ";");
+			}
+			out.println("\t\t\t\t\tbreak;");
+		}
+		out.println("\t\t\t\tdefault:");
+		out.println("\t\t\t\t\tbreak;");
+		out.println("\t\t\t\t}");
+		out.println("\t\t\t}");
+		out.println("\t\t\treturn value;");
+		out.println("\t\t}");
+		out.println("\t};");
+	}
+
+	private List<Property> properties(final TypeElement type, final String packageName) {
+		final Map<String, Property> properties = new LinkedHashMap<>();
+		boolean valid = true;
+		for (TypeElement current = type; current != null; current = superclass(current)) {
+			for (final VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+				final Set<Modifier> modifiers = field.getModifiers();
+				if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.TRANSIENT)) {
+					continue;
+				}
+				final Property property = property(type, current, field, packageName);
+				if (property == null) {
+					valid = false;
+				} else if (!properties.containsKey(property.name) && (property.serialize || property.deserialize)) {
+					properties.put(property.name, property);
+				}
+			}
+		}
+		return valid ? new ArrayList<>(properties.values()) : null;
+	}
+
+	private Property property(
+		final TypeElement type,
+		final TypeElement declaring,
+		final VariableElement field,
+		final String packageName) {
+		final String fieldName = field.getSimpleName().toString();
+		final Expose expose = field.getAnnotation(Expose.class);
+		final SerializedName serializedName = field.getAnnotation(SerializedName.class);
+		final DocumentField documentField = field.getAnnotation(DocumentField.class);
+		final String name = documentField != null ? documentField.value().getSerializeName()
+				: serializedName != null ? serializedName.value() : fieldName;
+		final boolean serialize = expose == null || expose.serialize();
+		final boolean deserialize = expose == null || expose.deserialize();
+		final String read;
+		final String write;
+		if (isAccessible(field, packageName)
+				&& !(deserialize && field.getModifiers().contains(Modifier.FINAL))) {
+			read = fieldName;
+			write = fieldName + " = %s";
+		} else {
+			final ExecutableElement getter = accessor(type, packageName,
+				(field.asType().getKind() == TypeKind.BOOLEAN ? "is" : "get") + capitalize(fieldName), 0);
+			final ExecutableElement setter = accessor(type, packageName, "set" + capitalize(fieldName), 1);
+			if ((serialize && getter == null) || (deserialize && setter == null)) {
+				error(field, "@GenerateVPack requires field " + fieldName
+						+ " to be accessible or to have an accessible getter and setter");
+				return null;
+			}
+			read = getter != null ? getter.getSimpleName() + "()" : null;
+			write = setter != null ? setter.getSimpleName() + "(%s)" : null;
+		}
+		final String declaringClass = processingEnv.getTypeUtils().erasure(declaring.asType()).toString();
+		return new Property(name, fieldName, declaringClass, field.asType(), read, write, serialize, deserialize);
+	}
+
+	private ExecutableElement accessor(
+		final TypeElement type,
+		final String packageName,
+		final String name,
+		final int parameters) {
+		for (final ExecutableElement method : ElementFilter
+				.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+			if (method.getSimpleName().contentEquals(name) && method.getParameters().size() == parameters
+					&& !method.getModifiers().contains(Modifier.STATIC) && isAccessible(method, packageName)) {
+				return method;
+			}
+		}
+		return null;
+	}
+
+	private boolean hasConstructor(final TypeElement type, final String packageName) {
+		for (final ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+			if (constructor.getParameters().isEmpty() && isAccessible(constructor, packageName)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean isAccessible(final Element element, final String packageName) {
+		final Set<Modifier> modifiers = element.getModifiers();
+		if (modifiers.contains(Modifier.PUBLIC)) {
+			return true;
+		}
+		return !modifiers.contains(Modifier.PRIVATE)
+				&& packageOf(element).getQualifiedName().contentEquals(packageName);
+	}
+
+	private TypeElement superclass(final TypeElement type) {
+		final TypeMirror superclass = type.getSuperclass();
+		if (superclass.getKind() != TypeKind.DECLARED) {
+			return null;
+		}
+		final TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+		return element.getQualifiedName().contentEquals(Object.class.getName()) ? null : element;
+	}
+
+	private PackageElement packageOf(final Element element) {
+		return processingEnv.getElementUtils().getPackageOf(element);
+	}
+
+	private boolean isString(final TypeMirror type) {
+		return type.getKind() == TypeKind.DECLARED && type.toString().equals(String.class.getName());
+	}
+
+	private static boolean isParameterized(final TypeMirror type) {
+		return type.getKind() == TypeKind.DECLARED && !((DeclaredType) type).getTypeArguments().isEmpty();
+	}
+
+	private static String capitalize(final String name) {
+		return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+	}
+
+	private static String literal(final String value) {
+		return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+	}
+
+	private void writeServices() {
+		try {
+			final FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+				SERVICES);
+			try (final Writer writer = file.openWriter()) {
+				for (final String module : modules) {
+					writer.write(module);
+					writer.write('\n');
+				}
+			}
+		} catch (final IOException e) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+				"Could not write " + SERVICES + ": " + e.getMessage());
+		}
+	}
+
+	private void error(final Element element, final String message) {
+		processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+	}
+
+	private static class Property {
+
+		private final String name;
+		private final String fieldName;
+		private final String declaringClass;
+		private final TypeMirror type;
+		private final String read;
+		private final String write;
+		private final boolean serialize;
+		private final boolean deserialize;
+
+		private Property(final String name, final String fieldName, final String declaringClass,
+			final TypeMirror type, final String read, final String write, final boolean serialize,
+			final boolean deserialize) {
+			super();
+			this.name = name;
+			this.fieldName = fieldName;
+			this.declaringClass = declaringClass;
+			this.type = type;
+			this.read = read;
+			this.write = write;
+			this.serialize = serialize;
+			this.deserialize = deserialize;
+		}
+	}
+
+}
@@ -0,0 +1,74 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.tracing;
+
+import java.util.function.BiConsumer;
+
+/**
+ * The span of a single request, created by a {@link Tracer}.
+ */
+public interface Span {
+
+	/**
+	 * Called once before the request is sent. The given headers are added to the meta data of the request, e.g. to
+	 * propagate the trace to the server.
+	 *
+	 * @param header
+	 *            consumer of header name and value
+	 */
+	default void inject(final BiConsumer<String, String> header) {
+	}
+
+	/**
+	 * Makes this span the current one of the calling thread. The returned {@link java.util.concurrent.CompletableFuture}
+	 * of the request is completed within this scope, so that callbacks which run on completion (e.g.
+	 * {@link java.util.concurrent.CompletableFuture#whenComplete(BiConsumer)}) see the span.
+	 *
+	 * @return the scope which restores the previous state when closed
+	 */
+	default Scope activate() {
+		return Scope.NOOP;
+	}
+
+	/**
+	 * Called after the returned {@link java.util.concurrent.CompletableFuture} of the request was completed.
+	 *
+	 * @param failure
+	 *            the exception the request failed with or <code>null</code> if it succeeded
+	 */
+	void end(Throwable failure);
+
+	/**
+	 * Scope in which a span is the current one, see {@link Span#activate()}.
+	 */
+	@FunctionalInterface
+	public interface Scope extends AutoCloseable {
+
+		Scope NOOP = () -> {
+		};
+
+		@Override
+		void close();
+
+	}
+
+}
@@ -0,0 +1,45 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+
+package com.arangodb.tracing;
+
+import com.arangodb.monitoring.RequestContext;
+
+/**
+ * Creates a {@link Span} for every request executed by {@link com.arangodb.ArangoDBAsync}.
+ *
+ * <p>
+ * {@link #startSpan(RequestContext)} is called on the thread which calls the driver, so an implementation can pick
+ * up the span which is current on that thread as parent. Implementations have to be thread-safe and must neither
+ * block nor throw.
+ * </p>
+ */
+@FunctionalInterface
+public interface Tracer {
+
+	/**
+	 * @param context
+	 *            the context of the request, not sent yet
+	 * @return the span of the request
+	 */
+	Span startSpan(RequestContext context);
+
+}
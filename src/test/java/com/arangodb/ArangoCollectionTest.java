@@ -34,6 +34,8 @@ import static org.hamcrest.Matchers.startsWith;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -72,6 +74,7 @@ import com.arangodb.model.DocumentImportOptions.OnDuplicate;
 import com.arangodb.model.DocumentReadOptions;
 import com.arangodb.model.DocumentReplaceOptions;
 import com.arangodb.model.DocumentUpdateOptions;
+import com.arangodb.velocypack.VPackSlice;
 
 /**
  * @author Mark Vollmary
@@ -253,6 +256,68 @@ public class ArangoCollectionTest extends BaseTest {
 		f.get();
 	}
 
+	@Test
+	public void insertAndGetDocumentAsVPack() throws InterruptedException, ExecutionException {
+		final VPackSlice slice = db.collection(COLLECTION_NAME).util().serialize(new BaseDocument("docVPack"));
+		final byte[] vpack = Arrays.copyOfRange(slice.getBuffer(), slice.getStart(),
+			slice.getStart() + slice.getByteSize());
+		final DocumentCreateEntity<byte[]> created = db.collection(COLLECTION_NAME).insertDocument(vpack).get();
+		assertThat(created.getKey(), is("docVPack"));
+		final byte[] read = db.collection(COLLECTION_NAME).getDocument("docVPack", byte[].class).get();
+		final BaseDocument document = db.collection(COLLECTION_NAME).util().deserialize(new VPackSlice(read),
+			BaseDocument.class);
+		assertThat(document.getKey(), is("docVPack"));
+		final MultiDocumentEntity<byte[]> documents = db.collection(COLLECTION_NAME)
+				.getDocuments(Arrays.asList("docVPack"), byte[].class).get();
+		assertThat(documents.getDocuments().size(), is(1));
+	}
+
+	@Test
+	public void insertDocumentsAsVPack() throws InterruptedException, ExecutionException {
+		// the request bodies cross the 127 byte and 127 element boundaries of the array header
+		long total = 0;
+		for (final int count : new int[] { 1, 8, 127, 128, 300 }) {
+			final Collection<byte[]> values = new ArrayList<>();
+			for (int i = 0; i < count; i++) {
+				final VPackSlice slice = db.collection(COLLECTION_NAME).util()
+						.serialize(new BaseDocument("docRaw" + count + "_" + i));
+				values.add(Arrays.copyOfRange(slice.getBuffer(), slice.getStart(),
+					slice.getStart() + slice.getByteSize()));
+			}
+			final MultiDocumentEntity<DocumentCreateEntity<byte[]>> created = db.collection(COLLECTION_NAME)
+					.insertDocuments(values).get();
+			assertThat(created.getDocuments().size(), is(count));
+			assertThat(created.getErrors(), is(empty()));
+			total += count;
+			final BaseDocument last = db.collection(COLLECTION_NAME)
+					.getDocument("docRaw" + count + "_" + (count - 1), BaseDocument.class).get();
+			assertThat(last, is(notNullValue()));
+		}
+		assertThat(db.collection(COLLECTION_NAME).count().get().getCount(), is(total));
+	}
+
+	@Test
+	public void insertDocumentFromSliceView() throws InterruptedException, ExecutionException {
+		final VPackSlice slice = db.collection(COLLECTION_NAME).util()
+				.serialize(Arrays.asList(new BaseDocument("docFirst"), new BaseDocument("docView")));
+		final DocumentCreateEntity<VPackSlice> created = db.collection(COLLECTION_NAME).insertDocument(slice.get(1))
+				.get();
+		assertThat(created.getKey(), is("docView"));
+		final BaseDocument document = db.collection(COLLECTION_NAME).getDocument("docView", BaseDocument.class).get();
+		assertThat(document.getKey(), is("docView"));
+	}
+
+	@Test
+	public void insertAndGetDocumentAsJsonBuffer() throws InterruptedException, ExecutionException {
+		final ByteBuffer json = ByteBuffer
+				.wrap("{\"_key\":\"docBuffer\",\"a\":\"test\"}".getBytes(StandardCharsets.UTF_8));
+		final MultiDocumentEntity<DocumentCreateEntity<ByteBuffer>> created = db.collection(COLLECTION_NAME)
+				.insertDocuments(Arrays.asList(json)).get();
+		assertThat(created.getDocuments().size(), is(1));
+		final ByteBuffer read = db.collection(COLLECTION_NAME).getDocument("docBuffer", ByteBuffer.class).get();
+		assertThat(StandardCharsets.UTF_8.decode(read).toString(), containsString("\"a\":\"test\""));
+	}
+
 	@Test
 	public void getDocumentNotFound() throws InterruptedException, ExecutionException {
 		final CompletableFuture<BaseDocument> f = db.collection(COLLECTION_NAME).getDocument("no", BaseDocument.class);
@@ -736,6 +801,25 @@ public class ArangoCollectionTest extends BaseTest {
 		f.get();
 	}
 
+	@Test
+	public void getAndDeleteDocumentWithReservedCharactersInKey() throws InterruptedException, ExecutionException {
+		// keys which have to be percent-encoded in the request path
+		for (final String key : Arrays.asList("%", "a+b", "a:b@c", "(x)", "a=b;c,d$e!f*'", "100%25")) {
+			final BaseDocument doc = new BaseDocument(key);
+			doc.addAttribute("a", "test");
+			final DocumentCreateEntity<BaseDocument> created = db.collection(COLLECTION_NAME).insertDocument(doc)
+					.get();
+			assertThat(created.getKey(), is(key));
+			final BaseDocument read = db.collection(COLLECTION_NAME).getDocument(key, BaseDocument.class).get();
+			assertThat(read, is(notNullValue()));
+			assertThat(read.getKey(), is(key));
+			assertThat(String.valueOf(read.getAttribute("a")), is("test"));
+			assertThat(db.collection(COLLECTION_NAME).documentExists(key).get(), is(true));
+			db.collection(COLLECTION_NAME).deleteDocument(key).get();
+			assertThat(db.collection(COLLECTION_NAME).getDocument(key, BaseDocument.class).get(), is(nullValue()));
+		}
+	}
+
 	@Test
 	public void deleteDocumentReturnOld() throws InterruptedException, ExecutionException {
 		final BaseDocument doc = new BaseDocument();
@@ -22,34 +22,66 @@ package com.arangodb;
 
 import static org.hamcrest.Matchers.anyOf;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.everyItem;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.Matchers.startsWith;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.ServiceLoader;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 
 import org.junit.Test;
 
 import com.arangodb.entity.ArangoDBVersion;
+import com.arangodb.entity.BaseDocument;
+import com.arangodb.entity.DocumentCreateEntity;
+import com.arangodb.entity.DocumentField;
+import com.arangodb.entity.DocumentField.Type;
+import com.arangodb.entity.LoadBalancingStrategy;
 import com.arangodb.entity.LogEntity;
 import com.arangodb.entity.LogLevel;
 import com.arangodb.entity.LogLevelEntity;
+import com.arangodb.entity.MultiDocumentEntity;
 import com.arangodb.entity.Permissions;
 import com.arangodb.entity.UserEntity;
+import com.arangodb.model.AqlQueryOptions;
 import com.arangodb.model.LogOptions;
 import com.arangodb.model.LogOptions.SortOrder;
 import com.arangodb.model.UserCreateOptions;
 import com.arangodb.model.UserUpdateOptions;
+import com.arangodb.monitoring.ConnectionStats;
+import com.arangodb.monitoring.LatencyHistogram;
+import com.arangodb.monitoring.LatencyHistogramListener;
+import com.arangodb.monitoring.RequestContext;
+import com.arangodb.monitoring.RequestListener;
+import com.arangodb.monitoring.SlowRequest;
+import com.arangodb.processor.GenerateVPack;
+import com.arangodb.processor.GeneratedVPackModule;
+import com.arangodb.tracing.Span;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.annotations.SerializedName;
 import com.arangodb.velocypack.exception.VPackException;
 import com.arangodb.velocystream.Request;
 import com.arangodb.velocystream.RequestType;
@@ -535,4 +567,316 @@ public class ArangoDBTest {
 			arangoDB.setLogLevel(entity).get();
 		}
 	}
+
+	@Test
+	public void hedgedQueryClosesLosingCursorOnItsHost() throws InterruptedException, ExecutionException {
+		final Collection<String> queried = new ConcurrentLinkedQueue<>();
+		final Collection<String> continued = new ConcurrentLinkedQueue<>();
+		final CompletableFuture<RequestContext> closed = new CompletableFuture<>();
+		final ArangoDBAsync arangoDB = new ArangoDBAsync.Builder().host("127.0.0.1", 8529).host("localhost", 8529)
+				.loadBalancingStrategy(LoadBalancingStrategy.ROUND_ROBIN).hedgedReads(true).hedgeDelay(0L)
+				.requestListener(new RequestListener() {
+					@Override
+					public void requestCompleted(final RequestContext context, final Throwable failure) {
+						final String operation = context.getOperation();
+						if ("POST /_api/cursor".equals(operation)) {
+							queried.add(context.getHost());
+						} else if ("PUT /_api/cursor".equals(operation)) {
+							continued.add(context.getHost());
+						} else if ("DELETE /_api/cursor".equals(operation) && failure == null) {
+							closed.complete(context);
+						}
+					}
+				}).build();
+		try {
+			// every result sleeps, so that the duplicate is sent before the original query returns
+			final ArangoCursorAsync<Integer> cursor = arangoDB.db()
+					.query("FOR i IN 1..3 RETURN i + SLEEP(0.2)", null,
+						new AqlQueryOptions().batchSize(1).allowDirtyRead(true), Integer.class)
+					.get();
+			final RequestContext loser = closed.get();
+			assertThat(queried, containsInAnyOrder("127.0.0.1:8529", "localhost:8529"));
+			assertThat(queried, hasItem(loser.getHost()));
+			assertThat(loser.getPath(), is(not("/_api/cursor/" + cursor.getId())));
+			final Collection<Integer> results = new ArrayList<>();
+			cursor.forEachRemaining(results::add);
+			assertThat(results, contains(1, 2, 3));
+			assertThat(continued, is(not(empty())));
+			assertThat(continued, everyItem(is(not(loser.getHost()))));
+		} finally {
+			arangoDB.shutdown();
+		}
+	}
+
+	@Test
+	public void deserializationThreads() throws InterruptedException, ExecutionException {
+		final Collection<String> threads = new ConcurrentLinkedQueue<>();
+		final ArangoDBAsync arangoDB = new ArangoDBAsync.Builder().deserializationThreads(2).deserializationThreshold(0)
+				.requestListener(deserializationThreadListener(threads)).build();
+		try {
+			for (int i = 0; i < 10; i++) {
+				final ArangoDBVersion version = arangoDB.getVersion().get();
+				assertThat(version, is(notNullValue()));
+				assertThat(version.getVersion(), is(notNullValue()));
+			}
+			assertThat(threads.size(), is(10));
+			assertThat(threads, everyItem(startsWith("arangodb-async-deserializer-")));
+		} finally {
+			arangoDB.shutdown();
+		}
+	}
+
+	@Test
+	public void deserializationThreshold() throws InterruptedException, ExecutionException {
+		final Collection<String> threads = new ConcurrentLinkedQueue<>();
+		final ArangoDBAsync arangoDB = new ArangoDBAsync.Builder().deserializationThreads(2)
+				.deserializationThreshold(Integer.MAX_VALUE).requestListener(deserializationThreadListener(threads))
+				.build();
+		try {
+			arangoDB.getVersion().get();
+			assertThat(threads.size(), is(1));
+			assertThat(threads, everyItem(not(startsWith("arangodb-async-deserializer-"))));
+		} finally {
+			arangoDB.shutdown();
+		}
+	}
+
+	private static RequestListener deserializationThreadListener(final Collection<String> threads) {
+		return new RequestListener() {
+			@Override
+			public void responseDeserialized(final RequestContext context) {
+				threads.add(Thread.currentThread().getName());
+			}
+		};
+	}
+
+	@Test
+	public void lazyDeserialization() throws InterruptedException, ExecutionException {
+		final ArangoDBAsync arangoDB = new ArangoDBAsync.Builder().lazyDeserialization(true).build();
+		try {
+			arangoDB.createDatabase(BaseTest.TEST_DB).get();
+			final ArangoCollectionAsync collection = arangoDB.db(BaseTest.TEST_DB).collection("lazy_test");
+			collection.create().get();
+			final MultiDocumentEntity<DocumentCreateEntity<BaseDocument>> created = collection
+					.insertDocuments(Arrays.asList(new BaseDocument("1"), new BaseDocument("2"), new BaseDocument("1")))
+					.get();
+			assertThat(created.getDocuments().size(), is(2));
+			assertThat(created.getErrors().size(), is(1));
+			assertThat(created.getDocumentsAndErrors().size(), is(3));
+			final MultiDocumentEntity<BaseDocument> documents = collection
+					.getDocuments(Arrays.asList("1", "2", "3"), BaseDocument.class).get();
+			assertThat(documents.getDocuments().size(), is(2));
+			assertThat(documents.getErrors().size(), is(1));
+			final BaseDocument first = documents.getDocuments().iterator().next();
+			assertThat(first.getKey(), is("1"));
+			assertThat(documents.getDocumentsAndErrors().iterator().next(), is((Object) first));
+		} finally {
+			arangoDB.db(BaseTest.TEST_DB).drop().get();
+			arangoDB.shutdown();
+		}
+	}
+
+	@Test
+	public void updateDocumentFields() throws InterruptedException, ExecutionException {
+		final ArangoDBAsync arangoDB = new ArangoDBAsync.Builder().updateDocumentFields(false).build();
+		try {
+			arangoDB.createDatabase(BaseTest.TEST_DB).get();
+			final ArangoCollectionAsync collection = arangoDB.db(BaseTest.TEST_DB).collection("fields_test");
+			collection.create().get();
+			final BaseDocument document = new BaseDocument();
+			final DocumentCreateEntity<BaseDocument> created = collection.insertDocument(document).get();
+			assertThat(created.getKey(), is(notNullValue()));
+			assertThat(document.getKey(), is(nullValue()));
+			assertThat(document.getRevision(), is(nullValue()));
+		} finally {
+			arangoDB.db(BaseTest.TEST_DB).drop().get();
+			arangoDB.shutdown();
+		}
+	}
+
+	@Test
+	public void handlesAreReused() {
+		final ArangoDBAsync arangoDB = new ArangoDBAsync.Builder().build();
+		try {
+			final ArangoDatabaseAsync db = arangoDB.db(BaseTest.TEST_DB);
+			assertThat(arangoDB.db(BaseTest.TEST_DB), is(sameInstance(db)));
+			assertThat(db.collection("handle_test"), is(sameInstance(db.collection("handle_test"))));
+			assertThat(db.graph("handle_test"), is(sameInstance(db.graph("handle_test"))));
+			assertThat(db.collection("handle_test"), is(not(sameInstance(arangoDB.db().collection("handle_test")))));
+		} finally {
+			arangoDB.shutdown();
+		}
+	}
+
+	@Test
+	public void requestListener() throws InterruptedException, ExecutionException {
+		final LatencyHistogramListener histograms = new LatencyHistogramListener();
+		final Collection<RequestContext> completed = new ConcurrentLinkedQueue<>();
+		final CountDownLatch latch = new CountDownLatch(2);
+		// listeners are called in order of registration, so the histogram is recorded before the latch counts down
+		final ArangoDBAsync arangoDB = new ArangoDBAsync.Builder().requestListener(histograms)
+				.requestListener(new RequestListener() {
+					@Override
+					public void requestCompleted(final RequestContext context, final Throwable failure) {
+						completed.add(context);
+						latch.countDown();
+					}
+				}).build();
+		try {
+			arangoDB.getVersion().get();
+			arangoDB.getVersion().get();
+			assertThat(latch.await(10, TimeUnit.SECONDS), is(true));
+			final LatencyHistogram histogram = histograms.getHistogram("GET /_api/version");
+			assertThat(histogram, is(notNullValue()));
+			assertThat(histogram.getCount(), is(2L));
+			assertThat(histogram.getValueAtPercentile(99), is(greaterThan(0L)));
+			final RequestContext context = completed.iterator().next();
+			assertThat(context.getDatabase(), is("_system"));
+			assertThat(context.getHost(), is(notNullValue()));
+			assertThat(context.getResponseSize(), is(greaterThan(0)));
+			assertThat(context.getSentTime() - context.getStartTime(), is(not(lessThan(0L))));
+			assertThat(context.getDeserializedTime() - context.getReceivedTime(), is(not(lessThan(0L))));
+		} finally {
+			arangoDB.shutdown();
+		}
+	}
+
+	@Test
+	public void connectionStats() throws InterruptedException, ExecutionException {
+		final ArangoDBAsync arangoDB = new ArangoDBAsync.Builder().maxConnections(1).build();
+		try {
+			assertThat(arangoDB.getConnectionStats(), is(empty()));
+			arangoDB.getVersion().get();
+			arangoDB.getVersion().get();
+			final Collection<ConnectionStats> stats = arangoDB.getConnectionStats();
+			assertThat(stats.size(), is(1));
+			final ConnectionStats connection = stats.iterator().next();
+			assertThat(connection.getInFlight(), is(0));
+			assertThat(connection.getMessagesSent(), is(greaterThan(1L)));
+			assertThat(connection.getChunksReceived(), is(greaterThan(1L)));
+			assertThat(connection.getBytesSent(), is(greaterThan(0L)));
+			assertThat(connection.getBytesReceived(), is(greaterThan(0L)));
+			assertThat(connection.getReconnects(), is(0));
+		} finally {
+			arangoDB.shutdown();
+		}
+		assertThat(arangoDB.getConnectionStats(), is(empty()));
+	}
+
+	@Test
+	public void tracer() throws InterruptedException, ExecutionException {
+		final ThreadLocal<String> current = new ThreadLocal<>();
+		final CompletableFuture<String> ended = new CompletableFuture<>();
+		final CompletableFuture<String> completedInScope = new CompletableFuture<>();
+		final ArangoDBAsync arangoDB = new ArangoDBAsync.Builder().tracer(context -> new Span() {
+			private final String operation = context.getOperation();
+
+			@Override
+			public void inject(final BiConsumer<String, String> header) {
+				header.accept("x-trace", operation);
+			}
+
+			@Override
+			public Scope activate() {
+				final String previous = current.get();
+				current.set(operation);
+				return () -> current.set(previous);
+			}
+
+			@Override
+			public void end(final Throwable failure) {
+				ended.complete(operation);
+			}
+		}).requestListener(new RequestListener() {
+			@Override
+			public void requestCompleted(final RequestContext context, final Throwable failure) {
+				completedInScope.complete(current.get());
+			}
+		}).build();
+		try {
+			arangoDB.getVersion().get();
+			assertThat(ended.get(), is("GET /_api/version"));
+			assertThat(completedInScope.get(), is("GET /_api/version"));
+			assertThat(current.get(), is(nullValue()));
+		} finally {
+			arangoDB.shutdown();
+		}
+	}
+
+	@Test
+	public void slowRequestListener() throws InterruptedException, ExecutionException {
+		final Collection<SlowRequest> reported = new ConcurrentLinkedQueue<>();
+		final ArangoDBAsync arangoDB = new ArangoDBAsync.Builder().slowRequestThreshold(0L)
+				.slowRequestReportsPerSecond(1).slowRequestListener(reported::add).build();
+		try {
+			arangoDB.db().query("RETURN @value", Collections.<String, Object> singletonMap("value", 1), null,
+				Integer.class).get();
+			arangoDB.getVersion().get();
+			assertThat(reported.size(), is(1));
+			final SlowRequest request = reported.iterator().next();
+			assertThat(request.getOperation(), is("POST /_api/cursor"));
+			assertThat(request.getQuery(), is("RETURN @value"));
+			assertThat(request.getBindVarKeys(), contains("value"));
+			assertThat(request.getHost(), is(notNullValue()));
+			assertThat(request.getResponseSize(), is(greaterThan(0)));
+			assertThat(request.getServerTime(), is(greaterThan(0L)));
+			assertThat(request.getQueueTime() + request.getServerTime(), is(not(greaterThan(request.getDuration()))));
+		} finally {
+			arangoDB.shutdown();
+		}
+	}
+
+	@GenerateVPack
+	public static class GeneratedEntity {
+		// only the generated module accesses the private field through its getter and setter
+		private static final AtomicInteger KEY_ACCESSES = new AtomicInteger();
+
+		@DocumentField(Type.KEY)
+		private String key;
+		@SerializedName("n")
+		int number;
+		Collection<String> names;
+		transient String ignored;
+
+		public String getKey() {
+			KEY_ACCESSES.incrementAndGet();
+			return key;
+		}
+
+		public void setKey(final String key) {
+			KEY_ACCESSES.incrementAndGet();
+			this.key = key;
+		}
+	}
+
+	@Test
+	public void generatedSerialization() {
+		final String module = GeneratedEntity.class.getName().replace('$', '_') + "VPackModule";
+		final Collection<String> modules = new ArrayList<>();
+		for (final GeneratedVPackModule generated : ServiceLoader.load(GeneratedVPackModule.class)) {
+			modules.add(generated.getClass().getName());
+		}
+		assertThat(modules, hasItem(module));
+		final ArangoDBAsync arangoDB = new ArangoDBAsync.Builder().build();
+		try {
+			final GeneratedEntity entity = new GeneratedEntity();
+			entity.key = "1";
+			entity.number = 2;
+			entity.names = Arrays.asList("a", "b");
+			entity.ignored = "c";
+			GeneratedEntity.KEY_ACCESSES.set(0);
+			final VPackSlice vpack = arangoDB.util().serialize(entity);
+			assertThat(GeneratedEntity.KEY_ACCESSES.get(), is(1));
+			assertThat(vpack.get("_key").getAsString(), is("1"));
+			assertThat(vpack.get("n").getAsInt(), is(2));
+			assertThat(vpack.get("ignored").isNone(), is(true));
+			final GeneratedEntity deserialized = arangoDB.util().deserialize(vpack, GeneratedEntity.class);
+			assertThat(GeneratedEntity.KEY_ACCESSES.get(), is(2));
+			assertThat(deserialized.key, is("1"));
+			assertThat(deserialized.number, is(2));
+			assertThat(deserialized.names, contains("a", "b"));
+		} finally {
+			arangoDB.shutdown();
+		}
+	}
 }
@@ -22,9 +22,11 @@ package com.arangodb;
 
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.junit.Assert.assertThat;
@@ -37,14 +39,20 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import org.junit.Ignore;
 import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 
 import com.arangodb.entity.AqlExecutionExplainEntity;
 import com.arangodb.entity.AqlExecutionExplainEntity.ExecutionPlan;
@@ -70,11 +78,14 @@ import com.arangodb.entity.ServerRole;
 import com.arangodb.entity.TraversalEntity;
 import com.arangodb.model.AqlFunctionDeleteOptions;
 import com.arangodb.model.AqlQueryOptions;
+import com.arangodb.model.AqlQueryOptionsAsync;
 import com.arangodb.model.CollectionCreateOptions;
 import com.arangodb.model.CollectionsReadOptions;
 import com.arangodb.model.TransactionOptions;
 import com.arangodb.model.TraversalOptions;
 import com.arangodb.model.TraversalOptions.Direction;
+import com.arangodb.monitoring.RequestContext;
+import com.arangodb.monitoring.RequestListener;
 import com.arangodb.velocypack.VPackBuilder;
 import com.arangodb.velocypack.VPackSlice;
 import com.arangodb.velocypack.exception.VPackException;
@@ -590,6 +601,226 @@ public class ArangoDatabaseTest extends BaseTest {
 		}
 	}
 
+	@Test
+	public void queryNextBatch() throws InterruptedException, ExecutionException {
+		final ArangoCursorAsync<Integer> cursor = db
+				.query("for i in 1..10 return i", null, new AqlQueryOptions().batchSize(4), Integer.class).get();
+		assertThat(cursor.next(), is(1));
+		assertThat(cursor.nextBatch().get(), contains(2, 3, 4));
+		assertThat(cursor.hasMoreAsync().get(), is(true));
+		assertThat(cursor.nextBatch().get(), contains(5, 6, 7, 8));
+		assertThat(cursor.nextBatch().get(), contains(9, 10));
+		assertThat(cursor.hasMoreAsync().get(), is(false));
+		assertThat(cursor.nextBatch().get(), is(empty()));
+	}
+
+	@Test
+	public void queryForEachRemainingAsync() throws InterruptedException, ExecutionException {
+		final ArangoCursorAsync<Integer> cursor = db
+				.query("for i in 1..10 return i", null, new AqlQueryOptions().batchSize(3), Integer.class).get();
+		final List<Integer> result = new ArrayList<>();
+		cursor.forEachRemainingAsync(result::add).get();
+		assertThat(result.size(), is(10));
+		assertThat(result.get(9), is(10));
+		assertThat(cursor.hasNext(), is(false));
+	}
+
+	@Test
+	public void queryWithPrefetch() throws InterruptedException, ExecutionException, IOException {
+		final ArangoCursorAsync<Integer> cursor = db.query("for i in 1..10 return i", null,
+			new AqlQueryOptionsAsync().prefetch(2).batchSize(2), Integer.class).get();
+		assertThat(cursor.asListRemaining(), contains(1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
+		cursor.close();
+		final ArangoCursorAsync<Integer> closed = db.query("for i in 1..10 return i", null,
+			new AqlQueryOptionsAsync().prefetch(2).batchSize(2), Integer.class).get();
+		assertThat(closed.next(), is(1));
+		closed.close();
+	}
+
+	@Test
+	public void queryWithPrefetchStopsOnClose() throws InterruptedException, ExecutionException, IOException {
+		final AtomicInteger batches = new AtomicInteger();
+		final ArangoDBAsync arangoDB = new ArangoDBAsync.Builder().requestListener(new RequestListener() {
+			@Override
+			public void requestStarted(final RequestContext context) {
+				if (context.getOperation().equals("PUT /_api/cursor")) {
+					batches.incrementAndGet();
+				}
+			}
+		}).build();
+		try {
+			final ArangoCursorAsync<Integer> cursor = arangoDB.db().query("for i in 1..100 return i", null,
+				new AqlQueryOptionsAsync().prefetch(2).batchSize(1), Integer.class).get();
+			assertThat(cursor.next(), is(1));
+			cursor.close();
+			final int requested = batches.get();
+			Thread.sleep(200);
+			assertThat(batches.get(), is(requested));
+			try {
+				arangoDB.db().route("/_api/cursor", cursor.getId()).put().get();
+				fail();
+			} catch (final ExecutionException e) {
+				assertThat(((ArangoDBException) e.getCause()).getResponseCode(), is(404));
+			}
+		} finally {
+			arangoDB.shutdown();
+		}
+	}
+
+	@Test
+	public void queryPublisher() throws InterruptedException, ExecutionException {
+		final CompletableFuture<List<Integer>> result = new CompletableFuture<>();
+		db.queryPublisher("for i in 1..10 return i", null, new AqlQueryOptions().batchSize(3), Integer.class)
+				.subscribe(new Subscriber<Integer>() {
+					private final List<Integer> elements = new ArrayList<>();
+					private Subscription subscription;
+
+					@Override
+					public void onSubscribe(final Subscription subscription) {
+						this.subscription = subscription;
+						subscription.request(1);
+					}
+
+					@Override
+					public void onNext(final Integer element) {
+						elements.add(element);
+						subscription.request(1);
+					}
+
+					@Override
+					public void onError(final Throwable error) {
+						result.completeExceptionally(error);
+					}
+
+					@Override
+					public void onComplete() {
+						result.complete(elements);
+					}
+				});
+		assertThat(result.get(), contains(1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
+	}
+
+	@Test
+	public void queryPublisherFetchesOnDemand() throws InterruptedException, ExecutionException {
+		final AtomicInteger batches = new AtomicInteger();
+		final ArangoDBAsync arangoDB = new ArangoDBAsync.Builder().requestListener(new RequestListener() {
+			@Override
+			public void requestStarted(final RequestContext context) {
+				if (context.getOperation().equals("PUT /_api/cursor")) {
+					batches.incrementAndGet();
+				}
+			}
+		}).build();
+		try {
+			final PublisherSubscriber<Integer> subscriber = new PublisherSubscriber<>();
+			arangoDB.db().queryPublisher("for i in 1..10 return i", null, new AqlQueryOptions().batchSize(2),
+				Integer.class).subscribe(subscriber);
+			subscriber.subscription.get().request(3);
+			subscriber.awaitElements(3);
+			Thread.sleep(200);
+			assertThat(subscriber.elements, contains(1, 2, 3));
+			assertThat(batches.get(), is(1));
+			subscriber.subscription.get().request(Long.MAX_VALUE);
+			assertThat(subscriber.result.get(), contains(1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
+			assertThat(batches.get(), is(4));
+		} finally {
+			arangoDB.shutdown();
+		}
+	}
+
+	@Test
+	public void queryPublisherCancelDeletesCursor() throws InterruptedException, ExecutionException, IOException {
+		final CompletableFuture<String> deleted = new CompletableFuture<>();
+		final ArangoDBAsync arangoDB = new ArangoDBAsync.Builder().requestListener(new RequestListener() {
+			@Override
+			public void requestCompleted(final RequestContext context, final Throwable failure) {
+				if (context.getOperation().equals("DELETE /_api/cursor")) {
+					if (failure == null) {
+						deleted.complete(context.getPath());
+					} else {
+						deleted.completeExceptionally(failure);
+					}
+				}
+			}
+		}).build();
+		try {
+			final PublisherSubscriber<Integer> subscriber = new PublisherSubscriber<>();
+			arangoDB.db().queryPublisher("for i in 1..10 return i", null, new AqlQueryOptions().batchSize(2),
+				Integer.class).subscribe(subscriber);
+			subscriber.subscription.get().request(3);
+			subscriber.awaitElements(3);
+			subscriber.subscription.get().cancel();
+			final String cursor = deleted.get(10, TimeUnit.SECONDS);
+			try {
+				arangoDB.db().route(cursor).put().get();
+				fail();
+			} catch (final ExecutionException e) {
+				assertThat(((ArangoDBException) e.getCause()).getResponseCode(), is(404));
+			}
+			assertThat(subscriber.result.isDone(), is(false));
+		} catch (final TimeoutException e) {
+			fail("cursor not deleted");
+		} finally {
+			arangoDB.shutdown();
+		}
+	}
+
+	@Test
+	public void queryPublisherNullElement() throws InterruptedException, ExecutionException {
+		final PublisherSubscriber<Integer> subscriber = new PublisherSubscriber<>();
+		db.queryPublisher("for i in 1..3 return i == 2 ? null : i", null, new AqlQueryOptions().batchSize(1),
+			Integer.class).subscribe(subscriber);
+		subscriber.subscription.get().request(Long.MAX_VALUE);
+		try {
+			subscriber.result.get();
+			fail();
+		} catch (final ExecutionException e) {
+			assertThat(e.getCause(), instanceOf(NullPointerException.class));
+		}
+		assertThat(subscriber.elements, contains(1));
+	}
+
+	@Test
+	public void queryPublisherNonPositiveRequest() throws InterruptedException, ExecutionException {
+		final PublisherSubscriber<Integer> subscriber = new PublisherSubscriber<>();
+		db.queryPublisher("for i in 1..10 return i", null, null, Integer.class).subscribe(subscriber);
+		subscriber.subscription.get().request(0);
+		try {
+			subscriber.result.get();
+			fail();
+		} catch (final ExecutionException e) {
+			assertThat(e.getCause(), instanceOf(IllegalArgumentException.class));
+		}
+		assertThat(subscriber.elements, is(empty()));
+	}
+
+	@Test
+	public void queryStreamParallel() throws InterruptedException, ExecutionException, IOException {
+		final ArangoCursorAsync<Integer> cursor = db.query("for i in 1..100 return i", null,
+			new AqlQueryOptions().batchSize(10).count(true), Integer.class).get();
+		assertThat(cursor.streamRemaining().spliterator().getExactSizeIfKnown(), is(100L));
+		cursor.close();
+		final ArangoCursorAsync<Integer> parallel = db.query("for i in 1..100 return i", null,
+			new AqlQueryOptions().batchSize(10).count(true), Integer.class).get();
+		final List<Integer> result = parallel.streamRemaining().parallel().map(i -> i * 2)
+				.collect(Collectors.toList());
+		assertThat(result.size(), is(100));
+		assertThat(result.get(0), is(2));
+		assertThat(result.get(99), is(200));
+	}
+
+	@Test
+	public void queryWithParallelDeserialization() throws InterruptedException, ExecutionException {
+		final ArangoCursorAsync<BaseDocument> cursor = db.query("for i in 1..1000 return {value: i}", null,
+			new AqlQueryOptionsAsync().parallelDeserialization(true).prefetch(1).batchSize(300), BaseDocument.class)
+				.get();
+		final List<BaseDocument> result = cursor.asListRemaining();
+		assertThat(result.size(), is(1000));
+		for (int i = 0; i < result.size(); i++) {
+			assertThat(((Number) result.get(i).getAttribute("value")).intValue(), is(i + 1));
+		}
+	}
+
 	/**
 	 * ignored. takes to long
 	 * 
@@ -1146,4 +1377,40 @@ public class ArangoDatabaseTest extends BaseTest {
 	public void reloadRouting() throws InterruptedException, ExecutionException {
 		db.reloadRouting().get();
 	}
+
+	private static class PublisherSubscriber<T> implements Subscriber<T> {
+
+		private final CompletableFuture<Subscription> subscription = new CompletableFuture<>();
+		private final CompletableFuture<List<T>> result = new CompletableFuture<>();
+		private final List<T> elements = new ArrayList<>();
+
+		@Override
+		public void onSubscribe(final Subscription subscription) {
+			this.subscription.complete(subscription);
+		}
+
+		@Override
+		public synchronized void onNext(final T element) {
+			elements.add(element);
+			notifyAll();
+		}
+
+		@Override
+		public void onError(final Throwable error) {
+			result.completeExceptionally(error);
+		}
+
+		@Override
+		public synchronized void onComplete() {
+			result.complete(elements);
+		}
+
+		private synchronized void awaitElements(final int count) throws InterruptedException {
+			final long deadline = System.currentTimeMillis() + 10000;
+			while (elements.size() < count && System.currentTimeMillis() < deadline) {
+				wait(100);
+			}
+			assertThat(elements.size(), is(count));
+		}
+	}
 }
@@ -0,0 +1,74 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb;
+
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import com.arangodb.internal.net.CircuitBreakerHostHandler;
+import com.arangodb.internal.net.Host;
+import com.arangodb.internal.net.HostCircuitBreaker;
+import com.arangodb.internal.net.RoundRobinHostHandler;
+import com.arangodb.internal.net.SimpleHostResolver;
+
+/**
+ * Tests of the circuit breaker enabled by {@link ArangoDBAsync.Builder#circuitBreakerFailureThreshold(Integer)}.
+ */
+public class CircuitBreakerHostHandlerTest {
+
+	@Test
+	public void opensAndHalfOpens() throws InterruptedException {
+		final StubHost live = new StubHost("live", 1);
+		final StubHost dead = new StubHost("dead", 2);
+		final HostCircuitBreaker circuitBreaker = new HostCircuitBreaker(2, null, 200L);
+		final CircuitBreakerHostHandler handler = new CircuitBreakerHostHandler(
+				new RoundRobinHostHandler(new SimpleHostResolver(Arrays.<Host> asList(live, dead))), circuitBreaker);
+		circuitBreaker.responseReceived(dead.getDescription(), 0L, true);
+		assertThat(chooseHosts(handler, 4), hasItem((Host) dead));
+		circuitBreaker.responseReceived(dead.getDescription(), 0L, true);
+		assertThat(chooseHosts(handler, 10), everyItem(is((Host) live)));
+		Thread.sleep(250L);
+		// after the open duration a single probe is let through
+		final Collection<Host> probed = chooseHosts(handler, 10);
+		assertThat(Collections.frequency(probed, dead), is(1));
+		circuitBreaker.responseReceived(dead.getDescription(), 0L, false);
+		assertThat(chooseHosts(handler, 4), hasItem((Host) dead));
+	}
+
+	private static Collection<Host> chooseHosts(final CircuitBreakerHostHandler handler, final int count) {
+		final Collection<Host> hosts = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			hosts.add(handler.get(null, null));
+			handler.success();
+		}
+		return hosts;
+	}
+
+}
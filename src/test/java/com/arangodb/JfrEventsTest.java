@@ -0,0 +1,80 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.arangodb.internal.jfr.JfrEvents;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Only compiled with a JDK which provides the Flight Recorder, see the profile jfr.
+ */
+public class JfrEventsTest {
+
+	@Test
+	public void requestEvent() throws IOException, InterruptedException {
+		assumeTrue(JfrEvents.isAvailable());
+		final int port;
+		try (final ServerSocket socket = new ServerSocket(0)) {
+			port = socket.getLocalPort();
+		}
+		final ArangoDBAsync arangoDB = new ArangoDBAsync.Builder().host("127.0.0.1", port).build();
+		final Path file = Files.createTempFile("arangodb", ".jfr");
+		try (final Recording recording = new Recording()) {
+			recording.enable("com.arangodb.Request");
+			recording.start();
+			try {
+				arangoDB.getVersion().get();
+			} catch (final ExecutionException | ArangoDBException e) {
+				// no server listening, the failed request is recorded as well
+			}
+			recording.stop();
+			recording.dump(file);
+			final List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+			final List<String> requests = events.stream()
+					.filter(event -> event.getEventType().getName().equals("com.arangodb.Request"))
+					.map(event -> event.getString("operation")).collect(Collectors.toList());
+			assertThat(requests, hasItem("GET /_api/version"));
+			assertThat(events.stream().allMatch(event -> event.getString("failure") != null), is(true));
+		} finally {
+			arangoDB.shutdown();
+			Files.delete(file);
+		}
+	}
+
+}
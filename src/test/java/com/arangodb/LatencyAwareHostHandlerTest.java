@@ -0,0 +1,67 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.arangodb.internal.net.Host;
+import com.arangodb.internal.net.HostLatencyTracker;
+import com.arangodb.internal.net.LatencyAwareHostHandler;
+import com.arangodb.internal.net.RefreshingHostResolver;
+
+/**
+ * Tests of the load balancing enabled by {@link ArangoDBAsync.Builder#latencyAwareLoadBalancing(Boolean)}.
+ */
+public class LatencyAwareHostHandlerTest {
+
+	@Test
+	public void prefersLeastLoadedHost() {
+		final StubHost slow = new StubHost("slow", 1);
+		final StubHost fast = new StubHost("fast", 2);
+		final RefreshingHostResolver resolver = new RefreshingHostResolver(Arrays.<Host> asList(slow, fast), 1,
+				null, RefreshingHostResolver.DEFAULT_REFRESH_INTERVAL);
+		final HostLatencyTracker tracker = new HostLatencyTracker();
+		resolver.addRemovalListener(tracker::remove);
+		final LatencyAwareHostHandler handler = new LatencyAwareHostHandler(resolver, tracker);
+		for (int i = 0; i < 3; i++) {
+			tracker.requestSent(slow.getDescription());
+		}
+		tracker.requestSent(fast.getDescription());
+		tracker.responseReceived(fast.getDescription(), 1000L, false);
+		tracker.requestSent(slow.getDescription());
+		tracker.responseReceived(slow.getDescription(), 50000000L, false);
+		assertThat(tracker.cost(slow.getDescription()), is(greaterThan(tracker.cost(fast.getDescription()))));
+		for (int i = 0; i < 100; i++) {
+			assertThat(handler.get(null, null), is(sameInstance((Host) fast)));
+		}
+		resolver.update(Arrays.asList("tcp://fast:2"));
+		assertThat(slow.closed, is(true));
+		assertThat(tracker.cost(slow.getDescription()), is(0.0));
+	}
+
+}
@@ -0,0 +1,116 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.arangodb.entity.BaseDocument;
+import com.arangodb.internal.util.ArangoSerializationFactory.Serializer;
+import com.arangodb.util.ArangoSerialization;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+
+/**
+ * Tests of the serialization of multiple raw VelocyPack documents into a single array, none of them needs a server.
+ */
+public class RawDocumentSerializationTest {
+
+	@Test
+	public void serializesArrayOfRawDocuments() {
+		final ArangoDBAsync arangoDB = new ArangoDBAsync.Builder().build();
+		try {
+			for (final int count : new int[] { 1, 2, 8, 127, 128, 129, 300, 20000 }) {
+				final List<byte[]> values = documents(arangoDB, count);
+				final VPackSlice array = arangoDB.util(Serializer.CUSTOM).serialize(values);
+				assertThat(array.isArray(), is(true));
+				assertThat(array.getLength(), is(count));
+				for (int i = 0; i < count; i++) {
+					final VPackSlice element = array.get(i);
+					assertThat(Arrays.copyOfRange(element.getBuffer(), element.getStart(),
+						element.getStart() + element.getByteSize()), is(values.get(i)));
+				}
+			}
+		} finally {
+			arangoDB.shutdown();
+		}
+	}
+
+	@Test
+	public void allocatesLessThanBuilder() {
+		final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		assumeTrue(threads instanceof com.sun.management.ThreadMXBean);
+		final com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threads;
+		assumeTrue(allocations.isThreadAllocatedMemorySupported() && allocations.isThreadAllocatedMemoryEnabled());
+		final ArangoDBAsync arangoDB = new ArangoDBAsync.Builder().build();
+		try {
+			final ArangoSerialization serialization = arangoDB.util(Serializer.CUSTOM);
+			final List<byte[]> values = documents(arangoDB, 1000);
+			final long thread = Thread.currentThread().getId();
+			long serialized = 0;
+			long built = 0;
+			int byteSize = 0;
+			// the last round counts, the previous ones warm up both paths
+			for (int round = 0; round < 20; round++) {
+				final long start = allocations.getThreadAllocatedBytes(thread);
+				byteSize = serialization.serialize(values).getByteSize();
+				final long middle = allocations.getThreadAllocatedBytes(thread);
+				final VPackBuilder builder = new VPackBuilder();
+				builder.add(ValueType.ARRAY);
+				for (final byte[] value : values) {
+					builder.add(new VPackSlice(value));
+				}
+				builder.close();
+				final long end = allocations.getThreadAllocatedBytes(thread);
+				serialized = middle - start;
+				built = end - middle;
+			}
+			// besides the body only a slice per document is allocated, the builder grows and shifts its buffer
+			assertThat(serialized, is(lessThan(3L * byteSize)));
+			assertThat(serialized, is(lessThan(built / 2)));
+		} finally {
+			arangoDB.shutdown();
+		}
+	}
+
+	private static List<byte[]> documents(final ArangoDBAsync arangoDB, final int count) {
+		final List<byte[]> values = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			final BaseDocument document = new BaseDocument(String.valueOf(i));
+			document.addAttribute("value", "value" + i);
+			final VPackSlice slice = arangoDB.util().serialize(document);
+			values.add(Arrays.copyOfRange(slice.getBuffer(), slice.getStart(), slice.getStart() + slice.getByteSize()));
+		}
+		return values;
+	}
+
+}
@@ -0,0 +1,105 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.junit.Test;
+
+import com.arangodb.internal.net.Host;
+import com.arangodb.internal.net.HostDescription;
+import com.arangodb.internal.net.RefreshingHostResolver;
+
+/**
+ * Tests of the host list refreshed by {@link ArangoDBAsync.Builder#acquireHostList(Boolean)}.
+ */
+public class RefreshingHostResolverTest {
+
+	@Test
+	public void keepsReaddedHost() throws InterruptedException {
+		final StubHost a = new StubHost("a", 1);
+		final StubHost b = new StubHost("b", 2);
+		final RefreshingHostResolver resolver = new RefreshingHostResolver(Arrays.<Host> asList(a, b), 1, null, 20L,
+				300L);
+		final Collection<HostDescription> removed = new ConcurrentLinkedQueue<>();
+		resolver.addRemovalListener(removed::add);
+		final BlockingQueue<CompletableFuture<Collection<String>>> refreshes = new LinkedBlockingQueue<>();
+		final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+		try {
+			resolver.requestSent(b.getDescription());
+			resolver.start(() -> {
+				final CompletableFuture<Collection<String>> refresh = new CompletableFuture<>();
+				refreshes.add(refresh);
+				return refresh;
+			}, scheduler);
+			// the next refresh is only started after the previous one was handled
+			refreshes.take().complete(Arrays.asList("tcp://a:1"));
+			CompletableFuture<Collection<String>> refresh = refreshes.take();
+			assertThat(resolver.resolve(false, false), contains((Host) a));
+			assertThat(b.closed, is(false));
+			refresh.complete(Arrays.asList("tcp://a:1", "tcp://b:2"));
+			refresh = refreshes.take();
+			assertThat(resolver.resolve(false, false), contains((Host) a, b));
+			Thread.sleep(150L);
+			refresh.complete(Arrays.asList("tcp://a:1"));
+			refreshes.take();
+			// the drain timeout of the first removal has passed, but must not close the host drained again
+			Thread.sleep(250L);
+			assertThat(b.closed, is(false));
+			resolver.responseReceived(b.getDescription(), 0L, false);
+			assertThat(b.closed, is(true));
+			assertThat(removed, contains(b.getDescription()));
+			assertThat(a.closed, is(false));
+		} finally {
+			scheduler.shutdownNow();
+			resolver.close();
+		}
+	}
+
+	@Test
+	public void closesDrainedHostAfterTimeout() throws InterruptedException {
+		final StubHost a = new StubHost("a", 1);
+		final StubHost b = new StubHost("b", 2);
+		final RefreshingHostResolver resolver = new RefreshingHostResolver(Arrays.<Host> asList(a, b), 1, null,
+				RefreshingHostResolver.DEFAULT_REFRESH_INTERVAL, 100L);
+		try {
+			resolver.requestSent(b.getDescription());
+			resolver.update(Arrays.asList("tcp://a:1"));
+			assertThat(b.closed, is(false));
+			Thread.sleep(400L);
+			assertThat(b.closed, is(true));
+		} finally {
+			resolver.close();
+		}
+	}
+
+}
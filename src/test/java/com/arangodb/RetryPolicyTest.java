@@ -0,0 +1,139 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+
+import com.arangodb.internal.RetryPolicy;
+import com.arangodb.velocystream.Request;
+import com.arangodb.velocystream.RequestType;
+
+/**
+ * Tests of the retries enabled by {@link ArangoDBAsync.Builder#maxRetries(Integer)}, none of them needs a server.
+ */
+public class RetryPolicyTest {
+
+	private static final Request READ = new Request("db", RequestType.HEAD, "/_api/document/c/k");
+
+	@Test
+	public void retriesTransportFailures() {
+		final RetryPolicy retryPolicy = new RetryPolicy(1, 1L, 1L);
+		assertThat(retryPolicy.retryDelay(READ, new IOException(), 0), is(not(lessThan(0L))));
+		assertThat(retryPolicy.retryDelay(READ, new CompletionException(new TimeoutException()), 0),
+			is(not(lessThan(0L))));
+		assertThat(retryPolicy.retryDelay(READ, new ArangoDBException(new IOException()), 0), is(not(lessThan(0L))));
+		assertThat(retryPolicy.retryDelay(READ, new ArangoDBException("Response Code: 503", 503), 0),
+			is(not(lessThan(0L))));
+		assertThat(retryPolicy.retryDelay(READ, new IOException(), 1), is(lessThan(0L)));
+	}
+
+	@Test
+	public void doesNotRetryErrorResponses() {
+		final RetryPolicy retryPolicy = new RetryPolicy(1, 1L, 1L);
+		// an error response without a body, e.g. of documentExists for a missing document
+		assertThat(retryPolicy.retryDelay(READ, new ArangoDBException("Response Code: 404"), 0), is(lessThan(0L)));
+		assertThat(retryPolicy.retryDelay(READ, new ArangoDBException("Response Code: 412", 412), 0),
+			is(lessThan(0L)));
+		final Throwable notModified = new CompletionException(new ArangoDBException("Response Code: 304"));
+		assertThat(retryPolicy.retryDelay(READ, notModified, 0), is(lessThan(0L)));
+		// the retry budget is untouched
+		for (int i = 0; i < 4; i++) {
+			assertThat(retryPolicy.retryDelay(READ, new IOException(), 0), is(not(lessThan(0L))));
+		}
+	}
+
+	@Test
+	public void retriesOnlyDeletesOfDocumentsByKey() {
+		final RetryPolicy retryPolicy = new RetryPolicy(1, 1L, 1L);
+		final IOException failure = new IOException();
+		for (final String path : Arrays.asList("/_api/document/c/k", "/_api/gharial/g/vertex/c/k",
+			"/_api/gharial/g/edge/c/k")) {
+			assertThat(path, retryPolicy.retryDelay(new Request("db", RequestType.DELETE, path), failure, 0),
+				is(not(lessThan(0L))));
+		}
+		for (final String path : Arrays.asList("/_api/collection/c", "/_api/cursor/1", "/_api/job/all",
+			"/_api/document/c")) {
+			assertThat(path, retryPolicy.retryDelay(new Request("db", RequestType.DELETE, path), failure, 0),
+				is(lessThan(0L)));
+		}
+	}
+
+	@Test
+	public void retriesOnlyIdempotentRequestsOnFailingHost() throws IOException {
+		final AtomicInteger connections = new AtomicInteger();
+		try (final ServerSocket server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+			// accepts every connection and closes it right away
+			final Thread acceptor = new Thread(() -> {
+				while (!server.isClosed()) {
+					try {
+						final Socket socket = server.accept();
+						connections.incrementAndGet();
+						socket.close();
+					} catch (final IOException e) {
+						return;
+					}
+				}
+			});
+			acceptor.setDaemon(true);
+			acceptor.start();
+			final ArangoDBAsync arangoDB = new ArangoDBAsync.Builder().host("127.0.0.1", server.getLocalPort())
+					.maxRetries(3).retryBackoff(1L).build();
+			try {
+				assertFails(() -> arangoDB.createDatabase(BaseTest.TEST_DB));
+				final int write = connections.getAndSet(0);
+				assertFails(arangoDB::getVersion);
+				final int read = connections.get();
+				assertThat(write, is(greaterThan(0)));
+				assertThat(read, is(greaterThan(write)));
+			} finally {
+				arangoDB.shutdown();
+			}
+		}
+	}
+
+	private static void assertFails(final Supplier<CompletableFuture<?>> call) {
+		try {
+			call.get().get();
+			fail();
+		} catch (final ArangoDBException | ExecutionException | InterruptedException e) {
+		}
+	}
+
+}
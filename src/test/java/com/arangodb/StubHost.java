@@ -0,0 +1,61 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2026 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb;
+
+import java.io.IOException;
+
+import com.arangodb.internal.net.Connection;
+import com.arangodb.internal.net.Host;
+import com.arangodb.internal.net.HostDescription;
+
+/**
+ * Host without connections for the tests of host handlers and resolvers, which only records whether it was closed.
+ */
+class StubHost implements Host {
+
+	private final HostDescription description;
+	volatile boolean closed;
+
+	StubHost(final String host, final int port) {
+		super();
+		description = new HostDescription(host, port);
+	}
+
+	@Override
+	public HostDescription getDescription() {
+		return description;
+	}
+
+	@Override
+	public Connection connection() {
+		return null;
+	}
+
+	@Override
+	public void closeOnError() {
+	}
+
+	@Override
+	public void close() throws IOException {
+		closed = true;
+	}
+
+}